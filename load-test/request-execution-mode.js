@@ -0,0 +1,60 @@
+// 요청 처리 방식(플랫폼 스레드 / 가상 스레드) 비교용 k6 부하 스크립트.
+// 실행 방법과 결과 해석은 load-test/README.md 참고.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e EMAIL=load@test.com -e PASSWORD='password123!' \
+//          -e MODE=virtual load-test/request-execution-mode.js
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'unknown';
+const TARGET_RPS = parseInt(__ENV.TARGET_RPS || '2000', 10);
+
+export const options = {
+    scenarios: {
+        // 도달률을 단계적으로 올려 응답 지연이 꺾이는 지점(포화점)을 찾는다.
+        ramp: {
+            executor: 'ramping-arrival-rate',
+            startRate: 50,
+            timeUnit: '1s',
+            preAllocatedVUs: 200,
+            maxVUs: parseInt(__ENV.MAX_VUS || '2000', 10),
+            stages: [
+                { target: Math.round(TARGET_RPS / 4), duration: '30s' },
+                { target: Math.round(TARGET_RPS / 2), duration: '30s' },
+                { target: TARGET_RPS, duration: '60s' },
+                { target: TARGET_RPS, duration: '60s' },
+            ],
+        },
+    },
+    tags: { mode: MODE },
+    thresholds: {
+        'http_req_failed': ['rate<0.01'],
+        'http_req_duration{endpoint:me}': ['p(95)<300'],
+        'http_req_duration{endpoint:sessions}': ['p(95)<300'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+// 로그인(BCrypt)은 별도 해시 레인에서 처리되므로 부하에서 빼고, 시작할 때 한 번만 토큰을 받는다.
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/members/login`, JSON.stringify({
+        email: __ENV.EMAIL,
+        password: __ENV.PASSWORD,
+    }), { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'login 200': (r) => r.status === 200 });
+    return { accessToken: res.json('accessToken') };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.accessToken}` } };
+
+    // JWT 검증 + 블랙리스트(Redis/near-cache) + 회원 조회(DB, Hikari)
+    const me = http.get(`${BASE_URL}/api/members/me`, Object.assign({ tags: { endpoint: 'me' } }, params));
+    check(me, { 'me 200': (r) => r.status === 200 });
+
+    // JWT 검증 + 세션 목록(Redis, Lettuce)
+    const sessions = http.get(`${BASE_URL}/api/members/sessions`, Object.assign({ tags: { endpoint: 'sessions' } }, params));
+    check(sessions, { 'sessions 200': (r) => r.status === 200 });
+}
@@ -11,4 +11,12 @@ public class BaseException extends RuntimeException{
         super(message);
         this.status = status;
     }
+
+    /**
+     * @param writableStackTrace false면 스택 트레이스를 채우지 않는다. suppressed 예외도 받지 않는다.
+     */
+    protected BaseException(String message, HttpStatus status, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.status = status;
+    }
 }
@@ -0,0 +1,20 @@
+package com.algovision.algovisionbackend.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 4xx 비즈니스 예외. 잘못된 로그인, 요청 제한처럼 예상된 실패라 스택 트레이스를 채우지 않는다.
+ * {@code GlobalExceptionHandler}도 4xx는 메시지만 남긴다.
+ * <p>
+ * 원인(cause)과 suppressed 예외를 붙일 수 없어 상태가 바뀌지 않으므로,
+ * 메시지가 고정된 예외는 하나의 인스턴스({@code INSTANCE})를 재사용해 던진다.
+ */
+public abstract class ClientException extends BaseException {
+
+    protected ClientException(String message, HttpStatus status) {
+        super(message, status, false);
+        if (!status.is4xxClientError()) {
+            throw new IllegalArgumentException("ClientException은 4xx 상태만 사용할 수 있습니다: " + status);
+        }
+    }
+}
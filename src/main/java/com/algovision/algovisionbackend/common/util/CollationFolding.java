@@ -0,0 +1,64 @@
+package com.algovision.algovisionbackend.common.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * MySQL {@code utf8mb4_unicode_ci}의 문자 단위 비교를 애플리케이션에서 흉내 내기 위한 접기.
+ * <p>
+ * 호환 분해(NFKD) 후 결합 부호를 지우고 다시 조합(NFC)한 뒤 소문자로 바꾼다.
+ * 대소문자, 악센트(é → e), 전각 문자(Ａ → a)는 콜레이션과 같게 접힌다.
+ * 접은 뒤 ASCII와 한글만 남는 값은 {@link #isModeled(String)}가 true이며, 이 범위에서만 콜레이션과 같게 비교된다고 본다.
+ * 그 밖의 문자(æ, ø, 가나, 한자 등)가 남은 값은 호출하는 쪽이 DB 비교로 넘겨야 한다.
+ */
+public final class CollationFolding {
+
+    private CollationFolding() {
+    }
+
+    public static String fold(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        if (isAscii(value)) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD);
+        StringBuilder stripped = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                stripped.append(c);
+            }
+        }
+        return Normalizer.normalize(stripped, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 접은 값이 ASCII와 한글(음절, 자모)로만 이루어졌는지 여부.
+     */
+    public static boolean isModeled(String folded) {
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (c >= 0x80 && !isHangul(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= 0xAC00 && c <= 0xD7A3)    // 한글 음절
+                || (c >= 0x1100 && c <= 0x11FF) // 한글 자모
+                || (c >= 0x3130 && c <= 0x318F); // 호환용 자모
+    }
+}
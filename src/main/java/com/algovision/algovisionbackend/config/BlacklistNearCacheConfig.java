@@ -0,0 +1,31 @@
+package com.algovision.algovisionbackend.config;
+
+import com.algovision.algovisionbackend.global.security.jwt.JwtProperties;
+import com.algovision.algovisionbackend.global.security.jwt.service.BlacklistEventListener;
+import com.algovision.algovisionbackend.global.security.jwt.service.BlacklistNearCache;
+import com.algovision.algovisionbackend.global.security.jwt.service.JwtRedisService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "jwt.blacklist.near-cache", name = "enabled", havingValue = "true")
+public class BlacklistNearCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer blacklistListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    BlacklistNearCache nearCache,
+                                                                    JwtRedisService jwtRedisService,
+                                                                    JwtProperties jwtProperties) {
+        BlacklistEventListener listener =
+                new BlacklistEventListener(nearCache, jwtRedisService, jwtProperties.getAccessExpiration());
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(listener, new ChannelTopic(JwtRedisService.BLACKLIST_CHANNEL));
+        return container;
+    }
+}
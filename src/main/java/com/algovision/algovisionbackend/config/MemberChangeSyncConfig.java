@@ -0,0 +1,24 @@
+package com.algovision.algovisionbackend.config;
+
+import com.algovision.algovisionbackend.modules.auth.sync.MemberChangeListener;
+import com.algovision.algovisionbackend.modules.auth.sync.MemberChangeSync;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnExpression("${member.search.ngram-index.enabled:false} or ${member.availability.filter.enabled:false}")
+public class MemberChangeSyncConfig {
+
+    @Bean
+    public RedisMessageListenerContainer memberChangeListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       MemberChangeSync changeSync) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(new MemberChangeListener(changeSync), new ChannelTopic(MemberChangeSync.CHANGE_CHANNEL));
+        return container;
+    }
+}
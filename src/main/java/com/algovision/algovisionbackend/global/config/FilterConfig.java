@@ -1,6 +1,7 @@
 package com.algovision.algovisionbackend.global.config;
 
 import com.algovision.algovisionbackend.global.logging.ApiLoggingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -11,9 +12,15 @@ import org.springframework.core.Ordered;
 public class FilterConfig {
 
     @Bean
-    public FilterRegistrationBean<ApiLoggingFilter> apiLoggingFilter(@Value("${logging.slow-request-threshold:1000}") long threshold){
+    public FilterRegistrationBean<ApiLoggingFilter> apiLoggingFilter(@Value("${logging.slow-request-threshold:1000}") long threshold,
+                                                                     @Value("${logging.trace.accept-incoming:true}") boolean acceptIncomingTrace,
+                                                                     @Value("${logging.access.sample-rate:1.0}") double accessLogSampleRate,
+                                                                     MeterRegistry meterRegistry){
         ApiLoggingFilter filter = new ApiLoggingFilter();
         filter.setSlowRequestThreshold(threshold);
+        filter.setAcceptIncomingTrace(acceptIncomingTrace);
+        filter.setAccessLogSampleRate(accessLogSampleRate);
+        filter.setMeterRegistry(meterRegistry);
 
         FilterRegistrationBean<ApiLoggingFilter> registration = new FilterRegistrationBean<>();
         registration.setFilter(filter);
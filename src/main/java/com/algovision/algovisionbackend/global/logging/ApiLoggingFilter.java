@@ -1,5 +1,7 @@
 package com.algovision.algovisionbackend.global.logging;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,35 +10,57 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 요청마다 traceId를 MDC에 넣고 처리 결과를 한 줄로 남긴다.
+ * 빠른 2xx 요청은 {@code accessLogSampleRate} 비율로만 남기고, 느린 요청과 오류 응답은 항상 남긴다.
+ * 들어온 {@code traceparent}가 올바르면 그 trace를 이어 쓰고, 응답에는 {@code X-Trace-Id}와 {@code traceparent}를 돌려준다.
+ * 엔드포인트별 지연 분포는 actuator의 {@code http.server.requests}가 기록하며,
+ * 여기서는 임계값을 넘은 느린 요청 수만 {@code http.server.requests.slow}로 센다.
+ */
 @Slf4j
 @Setter
 public class ApiLoggingFilter extends OncePerRequestFilter {
+    static final String SLOW_REQUEST_METRIC = "http.server.requests.slow";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    private static final String UNKNOWN_URI = "UNKNOWN";
 
     private long slowRequestThreshold;
+    private MeterRegistry meterRegistry;
+    private boolean acceptIncomingTrace = true;
+    private double accessLogSampleRate = 1.0;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        String traceId = UUID.randomUUID().toString().substring(0, 12);
+        TraceContext trace = acceptIncomingTrace
+                ? TraceContext.fromTraceparent(request.getHeader(TraceContext.TRACEPARENT_HEADER))
+                : TraceContext.newRoot();
+        String traceId = trace.traceId();
         MDC.put("traceId", traceId);
+        MDC.put("spanId", trace.spanId());
+        response.setHeader(TRACE_ID_HEADER, traceId);
+        response.setHeader(TraceContext.TRACEPARENT_HEADER, trace.toTraceparent());
 
         String uri = request.getRequestURI();
         String method = request.getMethod();
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         try {
             filterChain.doFilter(request, response);
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
+            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
             int status = response.getStatus();
 
             if (duration >= slowRequestThreshold) {
+                slowRequestCounter(request, method, status).increment();
                 log.warn("[TRACE:{}] Slow Request {} {} -> {} ({} ms)",
                         traceId, method, uri, status, duration);
-            } else {
+            } else if (!isSuccess(status) || sampled()) {
                 log.info("[TRACE:{}] {} {} -> {} ({} ms)",
                         traceId, method, uri, status, duration);
             }
@@ -44,4 +68,25 @@ public class ApiLoggingFilter extends OncePerRequestFilter {
             MDC.clear();
         }
     }
+
+    private static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    private boolean sampled() {
+        return accessLogSampleRate >= 1.0
+                || (accessLogSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < accessLogSampleRate);
+    }
+
+    /**
+     * 태그에는 실제 경로 대신 URI 템플릿을 쓴다. 경로 변수마다 시계열이 늘어나지 않게 하기 위함이다.
+     */
+    private Counter slowRequestCounter(HttpServletRequest request, String method, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return Counter.builder(SLOW_REQUEST_METRIC)
+                .tag("method", method)
+                .tag("uri", pattern != null ? pattern.toString() : UNKNOWN_URI)
+                .tag("status", String.valueOf(status))
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,61 @@
+package com.algovision.algovisionbackend.global.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * logback 설정에 선언된 {@link MeteredAsyncAppender}의 큐 상태와 유실 건수를 내보낸다.
+ * <ul>
+ *     <li>{@code logback.async.dropped{appender,reason}}: 버려진 이벤트 수 (reason = discarded | overflow)</li>
+ *     <li>{@code logback.async.queue.size{appender}}: 큐에 쌓인 이벤트 수</li>
+ * </ul>
+ */
+@Component
+public class AsyncAppenderMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (MeteredAsyncAppender appender : findAppenders()) {
+            String name = appender.getName();
+            FunctionCounter.builder("logback.async.dropped", appender, MeteredAsyncAppender::getDiscardedCount)
+                    .tag("appender", name)
+                    .tag("reason", "discarded")
+                    .register(registry);
+            FunctionCounter.builder("logback.async.dropped", appender, MeteredAsyncAppender::getOverflowCount)
+                    .tag("appender", name)
+                    .tag("reason", "overflow")
+                    .register(registry);
+            Gauge.builder("logback.async.queue.size", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                    .tag("appender", name)
+                    .register(registry);
+        }
+    }
+
+    private Set<MeteredAsyncAppender> findAppenders() {
+        Set<MeteredAsyncAppender> appenders = new LinkedHashSet<>();
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return appenders;
+        }
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> it = logger.iteratorForAppenders();
+            while (it.hasNext()) {
+                if (it.next() instanceof MeteredAsyncAppender appender) {
+                    appenders.add(appender);
+                }
+            }
+        }
+        return appenders;
+    }
+}
@@ -0,0 +1,45 @@
+package com.algovision.algovisionbackend.global.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버려진 이벤트 수를 세는 {@link AsyncAppender}.
+ * <p>
+ * 큐가 discardingThreshold 아래로 차면 INFO 이하가 버려지고({@code discarded}),
+ * neverBlock 설정에서 큐가 가득 차면 레벨과 관계없이 버려진다({@code overflow}).
+ * overflow는 offer 직전 잔여 용량으로 판단하므로 경합 시 약간 적게 셀 수 있다.
+ * 값은 {@link AsyncAppenderMetrics}가 Micrometer로 내보낸다.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder overflow = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            overflow.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            discarded.increment();
+        }
+        return discardable;
+    }
+
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    public long getOverflowCount() {
+        return overflow.sum();
+    }
+}
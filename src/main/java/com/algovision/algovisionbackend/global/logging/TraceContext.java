@@ -0,0 +1,65 @@
+package com.algovision.algovisionbackend.global.logging;
+
+/**
+ * 요청 하나의 추적 정보. {@code traceparent} 헤더(W3C Trace Context) 파싱과 출력을 맡는다.
+ *
+ * @param traceId  32자리 소문자 16진수
+ * @param parentId 호출한 쪽의 span ID. 들어온 헤더가 없으면 null
+ * @param spanId   이 서버가 처리하는 구간의 span ID
+ * @param flags    trace-flags 2자리 16진수 (sampled = 01)
+ */
+public record TraceContext(String traceId, String parentId, String spanId, String flags) {
+    public static final String TRACEPARENT_HEADER = "traceparent";
+    private static final String VERSION = "00";
+    private static final String DEFAULT_FLAGS = "01";
+    private static final int TRACEPARENT_LENGTH = 55;
+
+    /** 새 trace를 시작한다. */
+    public static TraceContext newRoot() {
+        return new TraceContext(TraceIdGenerator.traceId(), null, TraceIdGenerator.spanId(), DEFAULT_FLAGS);
+    }
+
+    /**
+     * {@code 00-<trace-id>-<parent-id>-<flags>} 형식이면 같은 trace를 이어서 새 span을 만든다.
+     * 형식이 틀리거나 ID가 전부 0이면 새 trace를 시작한다.
+     */
+    public static TraceContext fromTraceparent(String header) {
+        if (header == null) {
+            return newRoot();
+        }
+        String value = header.trim();
+        if (value.length() != TRACEPARENT_LENGTH
+                || !value.startsWith(VERSION)
+                || value.charAt(2) != '-' || value.charAt(35) != '-' || value.charAt(52) != '-'
+                || !isHex(value, 3, 35) || !isHex(value, 36, 52) || !isHex(value, 53, 55)
+                || isAllZero(value, 3, 35) || isAllZero(value, 36, 52)) {
+            return newRoot();
+        }
+        return new TraceContext(value.substring(3, 35), value.substring(36, 52),
+                TraceIdGenerator.spanId(), value.substring(53, 55));
+    }
+
+    /** 응답과 하위 호출에 실어 보낼 {@code traceparent} 값. parent 자리에는 이 서버의 span ID가 들어간다. */
+    public String toTraceparent() {
+        return VERSION + '-' + traceId + '-' + spanId + '-' + flags;
+    }
+
+    private static boolean isHex(String s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAllZero(String s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package com.algovision.algovisionbackend.global.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C Trace Context 형식의 trace/span ID 생성기.
+ * <p>
+ * {@code UUID.randomUUID()}는 {@code SecureRandom}을 거쳐 스레드 간 경합이 생기므로
+ * 스레드별 {@link ThreadLocalRandom}으로 뽑은 값을 바로 16진수로 쓴다.
+ * 추적용 식별자라 암호학적 난수일 필요는 없다.
+ */
+public final class TraceIdGenerator {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private TraceIdGenerator() {
+    }
+
+    /** 16바이트(32자리 16진수) trace ID. 규격상 무효인 전부 0 값은 만들지 않는다. */
+    public static String traceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = random.nextLong();
+        long low = random.nextLong();
+        if (high == 0 && low == 0) {
+            low = 1;
+        }
+        char[] buf = new char[32];
+        writeHex(high, buf, 0);
+        writeHex(low, buf, 16);
+        return new String(buf);
+    }
+
+    /** 8바이트(16자리 16진수) span ID. */
+    public static String spanId() {
+        long id = ThreadLocalRandom.current().nextLong();
+        char[] buf = new char[16];
+        writeHex(id == 0 ? 1 : id, buf, 0);
+        return new String(buf);
+    }
+
+    private static void writeHex(long value, char[] buf, int offset) {
+        for (int i = offset + 15; i >= offset; i--) {
+            buf[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
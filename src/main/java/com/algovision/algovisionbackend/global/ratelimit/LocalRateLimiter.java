@@ -0,0 +1,60 @@
+package com.algovision.algovisionbackend.global.ratelimit;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노드 로컬 고정 윈도우 요청 제한기. Redis 왕복 없이 거를 만큼 가벼운 요청용이다.
+ * 키 수는 maxKeys로 제한되며, 넘으면 가장 오래 사용하지 않은 키부터 잊는다.
+ */
+public class LocalRateLimiter {
+
+    private final int limit;
+    private final long windowNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Window> windows;
+
+    public LocalRateLimiter(int limit, Duration window, int maxKeys) {
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+        this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                return size() > maxKeys;
+            }
+        };
+    }
+
+    /**
+     * 한도 안이면 한 번을 소비하고 true를 반환한다.
+     */
+    public boolean tryAcquire(String key) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Window window = windows.get(key);
+            if (window == null || now - window.startedAt >= windowNanos) {
+                windows.put(key, new Window(now));
+                return limit > 0;
+            }
+            if (window.count >= limit) {
+                return false;
+            }
+            window.count++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Window {
+        private final long startedAt;
+        private int count = 1;
+
+        private Window(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.algovision.algovisionbackend.global.ratelimit;
+
+public enum RateLimitAlgorithm {
+    /** window 동안 limit회. 경계 직후 최대 2배까지 몰릴 수 있지만 가장 가볍다. */
+    FIXED_WINDOW("scripts/ratelimit/fixed_window.lua", false),
+    /** 직전 window 동안 limit회. 요청 시각을 ZSET에 기록한다. */
+    SLIDING_WINDOW("scripts/ratelimit/sliding_window.lua", true),
+    /** 용량 limit, window마다 limit개가 고르게 다시 채워진다. */
+    TOKEN_BUCKET("scripts/ratelimit/token_bucket.lua", false);
+
+    private final String scriptPath;
+    private final boolean requestIdRequired;
+
+    RateLimitAlgorithm(String scriptPath, boolean requestIdRequired) {
+        this.scriptPath = scriptPath;
+        this.requestIdRequired = requestIdRequired;
+    }
+
+    public String getScriptPath() {
+        return scriptPath;
+    }
+
+    /** 요청마다 고유 ID(ZSET member)를 넘겨야 하는지 여부 */
+    public boolean isRequestIdRequired() {
+        return requestIdRequired;
+    }
+}
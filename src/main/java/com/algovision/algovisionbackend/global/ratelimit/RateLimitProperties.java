@@ -0,0 +1,26 @@
+package com.algovision.algovisionbackend.global.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+    private Map<String, Policy> policies = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private RateLimitAlgorithm algorithm = RateLimitAlgorithm.FIXED_WINDOW;
+        private long limit = 1;
+        private Duration window = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,85 @@
+package com.algovision.algovisionbackend.global.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis Lua 스크립트 기반 요청 제한기.
+ * 조회와 갱신을 한 스크립트에서 처리하므로 요청당 왕복 한 번이며, 동시 요청 사이에 경합이 없다.
+ * 정책은 {@code rate-limit.policies.<이름>}으로 설정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    private static final Map<RateLimitAlgorithm, RedisScript<Long>> SCRIPTS = new EnumMap<>(RateLimitAlgorithm.class);
+    private static final RedisScript<Long> REFUND_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/ratelimit/refund.lua"), Long.class);
+
+    static {
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            SCRIPTS.put(algorithm, RedisScript.of(new ClassPathResource(algorithm.getScriptPath()), Long.class));
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties rateLimitProperties;
+
+    /**
+     * 정책 한도 안이면 한 번을 소비하고 true를 반환한다.
+     */
+    public boolean tryAcquire(String policyName, String key) {
+        RateLimitProperties.Policy policy = getPolicy(policyName);
+        RateLimitAlgorithm algorithm = policy.getAlgorithm();
+        List<String> keys = List.of(KEY_PREFIX + policyName + ":" + key);
+        String limit = String.valueOf(policy.getLimit());
+        String window = String.valueOf(policy.getWindow().toMillis());
+
+        Long result = algorithm.isRequestIdRequired()
+                ? redisTemplate.execute(SCRIPTS.get(algorithm), keys, limit, window, requestId())
+                : redisTemplate.execute(SCRIPTS.get(algorithm), keys, limit, window);
+
+        if (result == null) {
+            // 파이프라인/트랜잭션 중이거나 응답이 없는 경우에는 요청을 막지 않는다.
+            log.warn("rate limit 결과 없음, 허용 처리: policy={}", policyName);
+            return true;
+        }
+        return result == 1L;
+    }
+
+    /**
+     * tryAcquire로 소비한 한 번을 되돌린다. 소비 후 실제 작업이 시작되지 못했을 때 사용한다.
+     */
+    public void refund(String policyName, String key) {
+        RateLimitProperties.Policy policy = getPolicy(policyName);
+        redisTemplate.execute(REFUND_SCRIPT, List.of(KEY_PREFIX + policyName + ":" + key),
+                String.valueOf(policy.getLimit()));
+    }
+
+    private RateLimitProperties.Policy getPolicy(String policyName) {
+        RateLimitProperties.Policy policy = rateLimitProperties.getPolicies().get(policyName);
+        if (policy == null) {
+            throw new IllegalArgumentException("정의되지 않은 rate limit 정책: " + policyName);
+        }
+        return policy;
+    }
+
+    /**
+     * 같은 키의 window 안에서만 겹치지 않으면 되므로 SecureRandom 기반 UUID 대신 스레드별 난수를 쓴다.
+     */
+    private static String requestId() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
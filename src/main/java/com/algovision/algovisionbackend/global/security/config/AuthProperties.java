@@ -0,0 +1,28 @@
+package com.algovision.algovisionbackend.global.security.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "auth")
+@Getter
+@Setter
+public class AuthProperties {
+    /**
+     * true면 토큰의 role/status 클레임 대신 매 요청마다 회원 상태를 조회한다. (로컬 캐시 경유)
+     */
+    private boolean liveStatusCheck = false;
+
+    private MemberCache memberCache = new MemberCache();
+
+    @Getter
+    @Setter
+    public static class MemberCache {
+        private int maxSize = 10_000;
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+}
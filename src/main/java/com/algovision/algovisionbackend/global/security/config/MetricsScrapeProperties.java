@@ -0,0 +1,21 @@
+package com.algovision.algovisionbackend.global.security.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code /actuator/prometheus} 수집 전용 계정. 수집기는 JWT 대신 이 계정으로 HTTP Basic 인증한다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "metrics.scrape")
+@Getter
+@Setter
+public class MetricsScrapeProperties {
+    private String username = "prometheus";
+    /**
+     * {@code {bcrypt}...}, {@code {noop}...}처럼 인코더 접두사를 붙인 비밀번호. 비어 있으면 수집 요청을 모두 거절한다.
+     */
+    private String password;
+}
@@ -1,32 +1,79 @@
 package com.algovision.algovisionbackend.global.security.config;
 
+import com.algovision.algovisionbackend.global.logging.ApiLoggingFilter;
+import com.algovision.algovisionbackend.global.logging.TraceContext;
 import com.algovision.algovisionbackend.global.security.jwt.filter.JwtAuthenticationFilter;
 import com.algovision.algovisionbackend.global.security.jwt.filter.JwtExceptionFilter;
+import com.algovision.algovisionbackend.global.security.password.BoundedPasswordEncoder;
+import com.algovision.algovisionbackend.global.security.password.PasswordHashingExecutor;
+import com.algovision.algovisionbackend.global.security.password.PasswordCostCalibrator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.Map;
+
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig {
+    private static final String PASSWORD_ENCODING_ID = "bcrypt";
+    private static final String METRICS_SCRAPER_ROLE = "METRICS_SCRAPER";
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtExceptionFilter jwtExceptionFilter;
 
+    /**
+     * 새 해시는 {@code {bcrypt}} 접두사로 저장하고, 접두사가 없는 기존 해시는 BCrypt로 검증한다.
+     * cost나 알고리즘이 현재 설정과 다른 해시는 {@link PasswordEncoder#upgradeEncoding(String)}이 true를 반환한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordCostCalibrator calibrator, PasswordHashingExecutor executor) {
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(
+                PASSWORD_ENCODING_ID,
+                Map.of(PASSWORD_ENCODING_ID, new BCryptPasswordEncoder(calibrator.resolveStrength()))
+        );
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return new BoundedPasswordEncoder(delegating, executor);
+    }
+
+    /**
+     * 수집기는 한 시간마다 만료되는 관리자 JWT를 가질 수 없으므로, prometheus 엔드포인트만 따로 떼어
+     * {@link MetricsScrapeProperties}의 수집 계정으로 HTTP Basic 인증한다.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsScrapeFilterChain(HttpSecurity http, MetricsScrapeProperties properties) throws Exception {
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(csrf -> csrf.disable())
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole(METRICS_SCRAPER_ROLE))
+                .httpBasic(Customizer.withDefaults())
+                .authenticationManager(metricsScrapeAuthenticationManager(properties))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+
+        return http.build();
     }
 
     @Bean
@@ -38,11 +85,15 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/api/members/signup",
                                 "/api/members/login",
+                                "/api/members/refresh",
+                                "/api/members/check-email",
+                                "/api/members/check-nickname",
                                 "/api/email/send",
                                 "api/email/verify"
                         ).permitAll()
                         .requestMatchers("/docs/**").hasRole("ADMIN")
-                        .requestMatchers("/actuator/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .formLogin(form -> form.disable())
@@ -60,12 +111,29 @@ public class SecurityConfig {
         config.addAllowedOriginPattern("https://algovision.co.kr");
         config.addAllowedHeader("*");
         config.addAllowedMethod("*");
+        config.addExposedHeader(ApiLoggingFilter.TRACE_ID_HEADER);
+        config.addExposedHeader(TraceContext.TRACEPARENT_HEADER);
         config.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
         return source;
     }
 
+    private AuthenticationManager metricsScrapeAuthenticationManager(MetricsScrapeProperties properties) {
+        if (!StringUtils.hasText(properties.getPassword())) {
+            return authentication -> {
+                throw new BadCredentialsException("수집 계정이 설정되지 않았습니다.");
+            };
+        }
+        UserDetails scraper = User.withUsername(properties.getUsername())
+                .password(properties.getPassword())
+                .roles(METRICS_SCRAPER_ROLE)
+                .build();
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(scraper));
+        provider.setPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return new ProviderManager(provider);
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
         return configuration.getAuthenticationManager();
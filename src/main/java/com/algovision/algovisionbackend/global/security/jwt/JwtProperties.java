@@ -13,4 +13,36 @@ public class JwtProperties {
     private String secret;
     private long accessExpiration;
     private long refreshExpiration;
+    private Blacklist blacklist = new Blacklist();
+    private Session session = new Session();
+
+    @Getter
+    @Setter
+    public static class Blacklist {
+        /** jti 도입 이전 발급 토큰의 전체 토큰 키도 함께 확인한다. 기존 토큰이 모두 만료되면 끈다. */
+        private boolean legacyKeyFallback = false;
+        private NearCache nearCache = new NearCache();
+    }
+
+    /**
+     * 기기별 refresh 세션 설정.
+     */
+    @Getter
+    @Setter
+    public static class Session {
+        /** 회원당 유지할 최대 세션 수. 넘치면 가장 오래 사용하지 않은 세션을 끊는다. */
+        private int maxPerMember = 5;
+    }
+
+    /**
+     * 블랙리스트 조회 앞단의 노드 로컬 캐시 설정.
+     */
+    @Getter
+    @Setter
+    public static class NearCache {
+        private boolean enabled = false;
+        private long expectedInsertions = 100_000;
+        private double falsePositiveRate = 0.001;
+        private int maxLocalEntries = 50_000;
+    }
 }
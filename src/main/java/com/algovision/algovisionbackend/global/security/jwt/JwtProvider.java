@@ -1,7 +1,11 @@
 package com.algovision.algovisionbackend.global.security.jwt;
 
+import com.algovision.algovisionbackend.global.security.jwt.dto.VerifiedToken;
+import com.algovision.algovisionbackend.modules.auth.domain.Member;
+import com.algovision.algovisionbackend.modules.auth.domain.MemberStatus;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -11,6 +15,8 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @RequiredArgsConstructor
 @Component
@@ -18,77 +24,102 @@ public class JwtProvider {
 
     private final JwtProperties jwtProperties;
     private SecretKey secretKey;
+    private JwtParser jwtParser;
 
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
-    public String generateAccessToken(Long memberId) {
-        return generateToken(memberId, jwtProperties.getAccessExpiration());
-    }
-
-    public String generateRefreshToken() {
-        return generateToken(jwtProperties.getAccessExpiration());
-    }
-
-    private String generateToken(Long memberId, long expirationMillis) {
+    /**
+     * 필터가 DB 조회 없이 인증 객체를 만들 수 있도록 role/status 클레임을 함께 담는다.
+     * jti는 블랙리스트 키로, sid는 로그아웃 시 현재 기기 세션을 찾는 데 쓰인다.
+     */
+    public String generateAccessToken(Member member, String sessionId) {
         Date now = new Date();
-        Date expiry = new Date(now.getTime() + expirationMillis);
+        Date expiry = new Date(now.getTime() + jwtProperties.getAccessExpiration());
 
         return Jwts.builder()
-                .subject(String.valueOf(memberId))
+                .id(UUID.randomUUID().toString())
+                .subject(String.valueOf(member.getId()))
+                .claim(VerifiedToken.ROLE_CLAIM, member.getRole().name())
+                .claim(VerifiedToken.STATUS_CLAIM, MemberStatus.of(member).name())
+                .claim(VerifiedToken.SESSION_ID_CLAIM, sessionId)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(secretKey)
                 .compact();
     }
 
-    private String generateToken(long expirationMillis) {
+    /**
+     * 회원 정보 클레임 없이 subject, 세션 ID, jti만 담는다. jti는 같은 시각에 발급된 토큰끼리도 값이 달라지게 한다.
+     */
+    public String generateRefreshToken(Long memberId, String sessionId) {
         Date now = new Date();
-        Date expiry = new Date(now.getTime() + expirationMillis);
+        Date expiry = new Date(now.getTime() + jwtProperties.getRefreshExpiration());
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(String.valueOf(memberId))
+                .claim(VerifiedToken.TOKEN_TYPE_CLAIM, VerifiedToken.REFRESH_TOKEN_TYPE)
+                .claim(VerifiedToken.SESSION_ID_CLAIM, sessionId)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(secretKey)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 서명과 만료를 한 번 검증하고 클레임을 {@link VerifiedToken}으로 묶어 반환한다.
+     * refresh 토큰은 인증에 쓸 수 없으므로 거부한다.
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        if (isRefreshToken(claims)) {
+            throw new JwtException("refresh 토큰은 인증에 사용할 수 없습니다.");
+        }
+        return VerifiedToken.of(token, claims);
+    }
+
+    /**
+     * 검증에 실패하면 예외 대신 빈 값을 반환한다.
+     */
+    public Optional<VerifiedToken> tryVerify(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            return Optional.of(verify(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 
-    public Long getMemberId(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 세션 ID가 있는 refresh 토큰만 받아들인다. 검증에 실패하면 빈 값을 반환한다.
+     */
+    public Optional<VerifiedToken> tryVerifyRefreshToken(String token) {
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            if (!isRefreshToken(claims) || claims.getSubject() == null) {
+                return Optional.empty();
+            }
+            VerifiedToken verified = VerifiedToken.of(token, claims);
+            return verified.sessionId() != null ? Optional.of(verified) : Optional.empty();
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
 
-        return Long.valueOf(claims.getSubject());
+    public boolean validateToken(String token) {
+        return tryVerify(token).isPresent();
     }
 
-    public long getRemainingExpiration(String accessToken) {
-        try{
-            Date expiration = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(accessToken)
-                    .getPayload()
-                    .getExpiration();
+    public Long getMemberId(String token) {
+        return verify(token).memberId();
+    }
 
-            return expiration.getTime() - System.currentTimeMillis();
-        }catch (ExpiredJwtException e){
-            return 0;
-        }
+    private static boolean isRefreshToken(Claims claims) {
+        return VerifiedToken.REFRESH_TOKEN_TYPE.equals(claims.get(VerifiedToken.TOKEN_TYPE_CLAIM, String.class));
     }
-}
\ No newline at end of file
+}
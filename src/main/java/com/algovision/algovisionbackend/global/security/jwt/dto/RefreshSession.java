@@ -0,0 +1,15 @@
+package com.algovision.algovisionbackend.global.security.jwt.dto;
+
+import java.time.Instant;
+
+/**
+ * 회원의 기기별 로그인 세션. 세션마다 refresh 토큰이 하나씩 있으며, 재발급할 때마다 교체된다.
+ */
+public record RefreshSession(
+        String sessionId,
+        String device,
+        Instant createdAt,
+        Instant lastUsedAt,
+        Instant expiresAt
+) {
+}
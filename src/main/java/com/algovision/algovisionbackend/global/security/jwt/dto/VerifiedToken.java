@@ -0,0 +1,63 @@
+package com.algovision.algovisionbackend.global.security.jwt.dto;
+
+import com.algovision.algovisionbackend.modules.auth.domain.MemberStatus;
+import com.algovision.algovisionbackend.modules.auth.domain.Role;
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임 스냅샷.
+ * 요청당 한 번만 만들어 필터, 로그아웃, 컨트롤러가 함께 사용한다.
+ */
+public record VerifiedToken(
+        String token,
+        Long memberId,
+        Instant issuedAt,
+        Instant expiresAt,
+        String jti,
+        Role role,
+        MemberStatus status,
+        String sessionId
+) {
+    public static final String ROLE_CLAIM = "role";
+    public static final String STATUS_CLAIM = "status";
+    public static final String TOKEN_TYPE_CLAIM = "token_type";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+    public static final String SESSION_ID_CLAIM = "sid";
+
+    public static VerifiedToken of(String token, Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        String status = claims.get(STATUS_CLAIM, String.class);
+
+        return new VerifiedToken(
+                token,
+                Long.valueOf(claims.getSubject()),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration()),
+                claims.getId(),
+                role != null ? Role.valueOf(role) : null,
+                status != null ? MemberStatus.valueOf(status) : null,
+                claims.get(SESSION_ID_CLAIM, String.class)
+        );
+    }
+
+    /**
+     * role/status 클레임이 없는 토큰(클레임 도입 이전 발급분)인지 여부.
+     */
+    public boolean hasMemberClaims() {
+        return role != null && status != null;
+    }
+
+    public long remainingMillis() {
+        if (expiresAt == null) {
+            return 0;
+        }
+        return Math.max(0, expiresAt.toEpochMilli() - System.currentTimeMillis());
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+}
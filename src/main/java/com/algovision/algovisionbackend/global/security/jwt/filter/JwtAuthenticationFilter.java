@@ -1,7 +1,11 @@
 package com.algovision.algovisionbackend.global.security.jwt.filter;
 
+import com.algovision.algovisionbackend.global.security.config.AuthProperties;
 import com.algovision.algovisionbackend.global.security.jwt.JwtProvider;
+import com.algovision.algovisionbackend.global.security.jwt.dto.VerifiedToken;
 import com.algovision.algovisionbackend.global.security.jwt.service.JwtRedisService;
+import com.algovision.algovisionbackend.global.security.service.CustomUserDetails;
+import com.algovision.algovisionbackend.modules.auth.domain.MemberStatus;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,6 +17,7 @@ import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -20,6 +25,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -27,39 +34,65 @@ import java.io.IOException;
 @Order(SecurityProperties.BASIC_AUTH_ORDER - 1)
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * 검증된 토큰을 담는 요청 속성 이름. 컨트롤러는 {@code @RequestAttribute}로 재사용한다.
+     */
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = "jwt.verifiedToken";
+
     private final JwtProvider jwtProvider;
     private final UserDetailsService userDetailsService;
     private final JwtRedisService jwtRedisService;
+    private final AuthProperties authProperties;
+    private final SecurityErrorResponseWriter errorResponseWriter;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);
 
         if (token != null) {
-            if (jwtRedisService.isBlacklisted(token)) {
-                log.warn("블랙리스트 토큰 차단: {}", token);
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.setContentType("application/json;charset=UTF-8");
-                response.getWriter().write("{\"error\":\"blacklisted_token\",\"message\":\"This token has been logged out.\"}");
-                return;
-            }
+            Optional<VerifiedToken> verified = jwtProvider.tryVerify(token);
+
+            if (verified.isPresent()) {
+                VerifiedToken verifiedToken = verified.get();
+
+                if (jwtRedisService.isBlacklisted(verifiedToken)) {
+                    log.warn("블랙리스트 토큰 차단: memberId={}, jti={}, sid={}",
+                            verifiedToken.memberId(), verifiedToken.jti(), verifiedToken.sessionId());
+                    errorResponseWriter.writeBlacklistedToken(response);
+                    return;
+                }
 
-            if (jwtProvider.validateToken(token)) {
-                Long memberId = jwtProvider.getMemberId(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(String.valueOf(memberId));
+                Long memberId = verifiedToken.memberId();
+                Collection<? extends GrantedAuthority> authorities = resolveAuthorities(verifiedToken);
 
-                Authentication authentication =
-                        new UsernamePasswordAuthenticationToken(memberId, null, userDetails.getAuthorities());
+                if (authorities != null) {
+                    Authentication authentication =
+                            new UsernamePasswordAuthenticationToken(memberId, null, authorities);
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, verifiedToken);
 
-                MDC.put("userId", String.valueOf(memberId));
+                    MDC.put("userId", String.valueOf(memberId));
+                }
             }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰 클레임으로 권한을 만든다. 실시간 상태 확인이 켜져 있거나 클레임이 없는 이전 토큰이면 회원을 조회한다.
+     * 비활성 회원이면 null을 반환한다.
+     */
+    private Collection<? extends GrantedAuthority> resolveAuthorities(VerifiedToken token) {
+        if (!authProperties.isLiveStatusCheck() && token.hasMemberClaims()) {
+            return token.status() == MemberStatus.ACTIVE ? CustomUserDetails.authoritiesOf(token.role()) : null;
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(String.valueOf(token.memberId()));
+        return userDetails.isEnabled() ? userDetails.getAuthorities() : null;
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String header = request.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
@@ -1,11 +1,11 @@
 package com.algovision.algovisionbackend.global.security.jwt.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.core.annotation.Order;
@@ -13,23 +13,22 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Map;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 @Order(SecurityProperties.BASIC_AUTH_ORDER - 2)
 public class JwtExceptionFilter extends OncePerRequestFilter {
+
+    private final SecurityErrorResponseWriter errorResponseWriter;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
             filterChain.doFilter(request, response);
         } catch (JwtException e) {
-            log.warn("JWT 검증 실패: {}", e.getMessage());
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.setContentType("application/json;charset=UTF-8");
-
-            new ObjectMapper().writeValue(response.getWriter(),
-                    Map.of("error", "invalid_token", "message", e.getMessage()));
+            log.warn("JWT 검증 실패: [{}] {}", e.getClass().getSimpleName(), e.getMessage());
+            errorResponseWriter.writeInvalidToken(response);
         }
     }
 }
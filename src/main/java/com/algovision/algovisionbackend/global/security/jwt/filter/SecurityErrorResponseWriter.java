@@ -0,0 +1,120 @@
+package com.algovision.algovisionbackend.global.security.jwt.filter;
+
+import com.algovision.algovisionbackend.global.handler.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 보안 필터에서 컨트롤러를 거치지 않고 바로 내보내는 오류 응답.
+ * <p>
+ * 형식은 {@link GlobalExceptionHandler}의 {@link ErrorResponse}와 같다.
+ * 메시지가 고정된 응답은 애플리케이션 ObjectMapper로 한 번만 직렬화해 두고,
+ * 요청마다 traceId만 끼워 출력 스트림에 바이트로 쓴다.
+ */
+@Component
+public class SecurityErrorResponseWriter {
+    private static final String TRACE_ID_PLACEHOLDER = "__TRACE_ID__";
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final ObjectMapper objectMapper;
+    private final PreparedError invalidToken;
+    private final PreparedError blacklistedToken;
+
+    public SecurityErrorResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.invalidToken = prepare(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다.");
+        this.blacklistedToken = prepare(HttpStatus.UNAUTHORIZED, "로그아웃된 토큰입니다.");
+    }
+
+    public void writeInvalidToken(HttpServletResponse response) throws IOException {
+        write(response, invalidToken);
+    }
+
+    public void writeBlacklistedToken(HttpServletResponse response) throws IOException {
+        write(response, blacklistedToken);
+    }
+
+    private void write(HttpServletResponse response, PreparedError error) throws IOException {
+        byte[] traceId = encodeTraceId(MDC.get("traceId"));
+
+        response.setStatus(error.status());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(error.prefix().length + traceId.length + error.suffix().length);
+
+        ServletOutputStream out = response.getOutputStream();
+        out.write(error.prefix());
+        out.write(traceId);
+        out.write(error.suffix());
+        out.flush();
+    }
+
+    /**
+     * traceId 자리를 표시값으로 직렬화한 뒤 그 앞뒤를 잘라 둔다.
+     */
+    private PreparedError prepare(HttpStatus status, String message) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(new ErrorResponse(status.value(), message, TRACE_ID_PLACEHOLDER));
+            byte[] placeholder = objectMapper.writeValueAsBytes(TRACE_ID_PLACEHOLDER);
+            int at = indexOf(body, placeholder);
+            if (at < 0) {
+                throw new IllegalStateException("오류 응답에서 traceId 위치를 찾을 수 없습니다.");
+            }
+            return new PreparedError(
+                    status.value(),
+                    Arrays.copyOfRange(body, 0, at),
+                    Arrays.copyOfRange(body, at + placeholder.length, body.length)
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("오류 응답을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * ApiLoggingFilter가 만든 traceId는 16진수라 그대로 따옴표만 붙인다. 그 외 값은 ObjectMapper로 이스케이프한다.
+     */
+    private byte[] encodeTraceId(String traceId) throws JsonProcessingException {
+        if (traceId == null) {
+            return NULL;
+        }
+        for (int i = 0; i < traceId.length(); i++) {
+            char c = traceId.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return objectMapper.writeValueAsBytes(traceId);
+            }
+        }
+        byte[] quoted = new byte[traceId.length() + 2];
+        quoted[0] = '"';
+        for (int i = 0; i < traceId.length(); i++) {
+            quoted[i + 1] = (byte) traceId.charAt(i);
+        }
+        quoted[quoted.length - 1] = '"';
+        return quoted;
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private record PreparedError(int status, byte[] prefix, byte[] suffix) {
+    }
+}
@@ -1,21 +1,59 @@
 package com.algovision.algovisionbackend.global.security.jwt.service;
 
-import com.algovision.algovisionbackend.global.security.jwt.JwtProvider;
+import com.algovision.algovisionbackend.global.security.jwt.dto.RefreshSession;
+import com.algovision.algovisionbackend.global.security.jwt.dto.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class AuthTokenService {
     private final JwtRedisService jwtRedisService;
-    private final JwtProvider jwtProvider;
 
+    /**
+     * 현재 기기의 세션만 끊는다. sid가 없는 이전 토큰은 어느 세션인지 알 수 없으므로 모든 세션을 끊는다.
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void logout(String accessToken, Long memberId){
-        jwtRedisService.deleteRefreshToken(memberId);
-        long expirationMillis = jwtProvider.getRemainingExpiration(accessToken);
-        jwtRedisService.blacklistAccessToken(accessToken, expirationMillis);
+    public void logout(VerifiedToken accessToken){
+        if (accessToken.sessionId() != null) {
+            jwtRedisService.revokeSession(accessToken.memberId(), accessToken.sessionId());
+        } else {
+            jwtRedisService.revokeAllSessions(accessToken.memberId());
+        }
+        blacklist(accessToken);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void logoutAllDevices(VerifiedToken accessToken) {
+        jwtRedisService.revokeAllSessions(accessToken.memberId());
+        blacklist(accessToken);
+    }
+
+    public List<RefreshSession> getSessions(Long memberId) {
+        return jwtRedisService.getSessions(memberId);
+    }
+
+    /**
+     * 세션 하나를 끊는다. 현재 세션이면 로그아웃과 같다. 세션 ID가 블랙리스트에 오르므로 다른 기기의 access 토큰도 바로 막힌다.
+     *
+     * @return 세션이 있어서 끊었으면 true
+     */
+    public boolean revokeSession(VerifiedToken accessToken, String sessionId) {
+        if (sessionId.equals(accessToken.sessionId())) {
+            logout(accessToken);
+            return true;
+        }
+        return jwtRedisService.revokeSession(accessToken.memberId(), sessionId);
+    }
+
+    private void blacklist(VerifiedToken accessToken) {
+        long expirationMillis = accessToken.remainingMillis();
+        if (expirationMillis > 0) {
+            jwtRedisService.blacklistAccessToken(accessToken, expirationMillis);
+        }
     }
 }
@@ -0,0 +1,69 @@
+package com.algovision.algovisionbackend.global.security.jwt.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드의 로그아웃 이벤트를 {@link BlacklistNearCache}에 반영한다.
+ * 구독이 성립하면 Redis에 남아 있는 블랙리스트를 적재한 뒤 near-cache를 활성화하고,
+ * 구독이 끊기면 다시 Redis 조회로 되돌린다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BlacklistEventListener implements MessageListener, SubscriptionListener {
+
+    private final BlacklistNearCache nearCache;
+    private final JwtRedisService jwtRedisService;
+    private final long accessExpirationMillis;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(JwtRedisService.EVENT_SEPARATOR);
+        if (separator <= 0) {
+            log.warn("잘못된 블랙리스트 이벤트 무시");
+            return;
+        }
+
+        try {
+            long expiresAt = Long.parseLong(body, 0, separator, 10);
+            nearCache.add(body.substring(separator + 1), expiresAt);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 블랙리스트 이벤트 무시");
+        }
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        // 구독 콜백 스레드에서 Redis를 동기 호출하지 않도록 별도 스레드에서 적재한다.
+        Thread.ofVirtual().name("jwt-blacklist-warmup").start(this::warmUp);
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        nearCache.markStale();
+        log.warn("블랙리스트 구독 해제, near-cache 비활성화");
+    }
+
+    private void warmUp() {
+        try {
+            // 남은 TTL 대신 최대 수명으로 잡는다. 로컬 캐시에 조금 더 오래 남을 뿐 판단은 같다.
+            long expiresAt = System.currentTimeMillis() + accessExpirationMillis;
+            long[] loaded = {0};
+            jwtRedisService.forEachBlacklisted(tokenId -> {
+                nearCache.add(tokenId, expiresAt);
+                loaded[0]++;
+            });
+            nearCache.markReady();
+            log.info("블랙리스트 near-cache 적재 완료: {}건", loaded[0]);
+        } catch (Exception e) {
+            nearCache.markStale();
+            log.error("블랙리스트 near-cache 적재 실패, Redis 조회로 동작합니다.", e);
+        }
+    }
+}
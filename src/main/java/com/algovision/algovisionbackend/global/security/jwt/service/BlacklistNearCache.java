@@ -0,0 +1,115 @@
+package com.algovision.algovisionbackend.global.security.jwt.service;
+
+import com.algovision.algovisionbackend.common.util.BloomFilter;
+import com.algovision.algovisionbackend.global.security.jwt.JwtProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 액세스 토큰 블랙리스트의 노드 로컬 앞단.
+ * <p>
+ * Bloom filter가 음성이면 Redis 조회 없이 "블랙리스트 아님"으로 판단하고,
+ * 로컬 캐시에 남아 있으면 "블랙리스트"로 판단한다. 그 외에는 {@link Result#UNKNOWN}을 돌려 Redis로 넘긴다.
+ * Redis 구독이 살아 있고 초기 적재가 끝난 동안({@link #markReady()})에만 판단하며,
+ * 그렇지 않으면 항상 {@link Result#UNKNOWN}이다.
+ * <p>
+ * Bloom filter는 삭제가 불가능하므로 액세스 토큰 만료 주기마다 세대를 교체한다.
+ * 두 세대(현재/이전)를 함께 조회하므로 등록된 토큰은 최소 한 주기 동안 유지된다.
+ */
+@Component
+public class BlacklistNearCache {
+
+    public enum Result {
+        REVOKED, NOT_REVOKED, UNKNOWN
+    }
+
+    private final long generationMillis;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final int maxLocalEntries;
+
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private final ReentrantLock rotationLock = new ReentrantLock();
+    private volatile Generations generations;
+    private volatile boolean ready;
+
+    public BlacklistNearCache(JwtProperties jwtProperties) {
+        JwtProperties.NearCache nearCache = jwtProperties.getBlacklist().getNearCache();
+        this.generationMillis = Math.max(1, jwtProperties.getAccessExpiration());
+        this.expectedInsertions = nearCache.getExpectedInsertions();
+        this.falsePositiveRate = nearCache.getFalsePositiveRate();
+        this.maxLocalEntries = nearCache.getMaxLocalEntries();
+        this.generations = new Generations(newFilter(), newFilter(), System.currentTimeMillis() + generationMillis);
+    }
+
+    public Result check(String tokenId) {
+        if (!ready) {
+            return Result.UNKNOWN;
+        }
+
+        long now = System.currentTimeMillis();
+        Generations current = rotateIfNeeded(now);
+        if (!current.current().mightContain(tokenId) && !current.previous().mightContain(tokenId)) {
+            return Result.NOT_REVOKED;
+        }
+
+        Long expiresAt = revoked.get(tokenId);
+        if (expiresAt != null && expiresAt > now) {
+            return Result.REVOKED;
+        }
+        return Result.UNKNOWN;
+    }
+
+    public void add(String tokenId, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        rotateIfNeeded(now).current().put(tokenId);
+
+        if (expiresAtMillis > now && revoked.size() < maxLocalEntries) {
+            revoked.put(tokenId, expiresAtMillis);
+        }
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public void markStale() {
+        this.ready = false;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private Generations rotateIfNeeded(long now) {
+        Generations current = generations;
+        if (now < current.rotateAt()) {
+            return current;
+        }
+
+        // 다른 스레드가 교체 중이면 기다리지 않고 기존 세대를 쓴다. 교체 전 세대도 여전히 유효한 상위 집합이다.
+        if (!rotationLock.tryLock()) {
+            return current;
+        }
+        try {
+            current = generations;
+            if (now >= current.rotateAt()) {
+                current = new Generations(newFilter(), current.current(), now + generationMillis);
+                generations = current;
+                revoked.values().removeIf(expiresAt -> expiresAt <= now);
+            }
+            return current;
+        } finally {
+            rotationLock.unlock();
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return BloomFilter.create(expectedInsertions, falsePositiveRate);
+    }
+
+    private record Generations(BloomFilter current, BloomFilter previous, long rotateAt) {
+    }
+}
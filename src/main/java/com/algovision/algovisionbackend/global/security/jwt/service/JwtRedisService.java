@@ -1,44 +1,293 @@
 package com.algovision.algovisionbackend.global.security.jwt.service;
 
+import com.algovision.algovisionbackend.global.security.jwt.JwtProperties;
+import com.algovision.algovisionbackend.global.security.jwt.dto.RefreshSession;
+import com.algovision.algovisionbackend.global.security.jwt.dto.VerifiedToken;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class JwtRedisService {
-    private static final String REFRESH_PREFIX = "jwt:refresh:";
+    public static final String BLACKLIST_CHANNEL = "jwt:blacklist-events";
+    public static final char EVENT_SEPARATOR = ':';
+
+    private static final String SESSION_PREFIX = "jwt:sessions:";
     private static final String BLACKLIST_PREFIX = "jwt:blacklist:";
+    private static final String REVOKED_SESSION_ID_PREFIX = "sid:";
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private static final int MAX_DEVICE_LENGTH = 200;
+    private static final char SESSION_VALUE_SEPARATOR = ':';
+
+    private static final RedisScript<Long> CREATE_SESSION_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/jwt/create_session.lua"), Long.class);
+    private static final RedisScript<Long> ROTATE_SESSION_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/jwt/rotate_session.lua"), Long.class);
 
     private final StringRedisTemplate redisTemplate;
+    private final BlacklistNearCache nearCache;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * 회원 세션 해시에 새 기기 세션을 추가한다. 최대 세션 수를 넘으면 가장 오래 사용하지 않은 세션을 끊는다.
+     * refresh 토큰 원문 대신 SHA-256 해시를 저장하므로 Redis가 노출되어도 저장값으로는 토큰을 재발급받을 수 없다.
+     *
+     * @return 한도 때문에 끊긴 세션 수
+     */
+    public long createSession(Long memberId, String sessionId, String refreshToken, String device, long expirationMillis) {
+        long now = System.currentTimeMillis();
+        String value = sessionValue(hash(refreshToken), now, now, now + expirationMillis, device);
+
+        Long evicted = redisTemplate.execute(
+                CREATE_SESSION_SCRIPT,
+                List.of(sessionKey(memberId)),
+                sessionId,
+                value,
+                String.valueOf(now),
+                String.valueOf(Math.max(1, jwtProperties.getSession().getMaxPerMember())),
+                String.valueOf(expirationMillis)
+        );
+        return evicted != null ? evicted : 0;
+    }
+
+    /**
+     * 세션에 저장된 토큰이 제시된 토큰과 같을 때만 새 토큰으로 바꾼다. 세션 하나만 읽고 쓰므로 세션 수와 무관하게 O(1)이며,
+     * 비교와 교체는 한 스크립트에서 원자적으로 처리한다. 이미 교체된 토큰이 다시 제시되면 재사용으로 보고 그 세션을 끊는다.
+     */
+    public RefreshRotation rotateRefreshToken(
+            Long memberId, String sessionId, String presentedToken, String nextToken, long expirationMillis
+    ) {
+        long now = System.currentTimeMillis();
+        Long result = redisTemplate.execute(
+                ROTATE_SESSION_SCRIPT,
+                List.of(sessionKey(memberId)),
+                sessionId,
+                hash(presentedToken),
+                hash(nextToken),
+                String.valueOf(now),
+                String.valueOf(now + expirationMillis),
+                String.valueOf(expirationMillis)
+        );
+
+        if (result == null) {
+            // 응답이 없으면 교체 여부를 알 수 없으므로 재발급하지 않는다.
+            return RefreshRotation.NOT_FOUND;
+        }
+        if (result == 1L) {
+            return RefreshRotation.ROTATED;
+        }
+        return result == -1L ? RefreshRotation.REUSED : RefreshRotation.NOT_FOUND;
+    }
+
+    /**
+     * 만료되지 않은 세션을 최근 사용 순으로 반환한다.
+     */
+    public List<RefreshSession> getSessions(Long memberId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(sessionKey(memberId));
+        long now = System.currentTimeMillis();
+
+        List<RefreshSession> sessions = new ArrayList<>(entries.size());
+        entries.forEach((sessionId, value) -> {
+            RefreshSession session = parseSession((String) sessionId, (String) value);
+            if (session != null && session.expiresAt().toEpochMilli() > now) {
+                sessions.add(session);
+            }
+        });
+        sessions.sort(Comparator.comparing(RefreshSession::lastUsedAt).reversed());
+        return sessions;
+    }
+
+    /**
+     * 세션을 지우고 그 세션 ID를 액세스 토큰 최대 수명 동안 블랙리스트에 올린다.
+     * 이미 발급된 다른 기기의 액세스 토큰도 같은 sid를 가지므로 만료를 기다리지 않고 바로 막힌다.
+     *
+     * @return 세션이 있어서 끊었으면 true
+     */
+    public boolean revokeSession(Long memberId, String sessionId) {
+        Long removed = redisTemplate.opsForHash().delete(sessionKey(memberId), sessionId);
+        if (removed == null || removed == 0) {
+            return false;
+        }
+        blacklistSession(sessionId);
+        return true;
+    }
+
+    /**
+     * 모든 세션을 지우고 각 세션 ID를 블랙리스트에 올린다. sid가 없는 이전 토큰은 남은 만료 시간 동안 유효하다.
+     */
+    public void revokeAllSessions(Long memberId) {
+        String key = sessionKey(memberId);
+        Set<Object> sessionIds = redisTemplate.opsForHash().keys(key);
+        redisTemplate.delete(key);
+        if (sessionIds != null) {
+            sessionIds.forEach(sessionId -> blacklistSession((String) sessionId));
+        }
+    }
+
+    public void blacklistAccessToken(VerifiedToken accessToken, long expirationMillis) {
+        blacklist(blacklistId(accessToken), expirationMillis);
+    }
+
+    private void blacklistSession(String sessionId) {
+        blacklist(revokedSessionId(sessionId), jwtProperties.getAccessExpiration());
+    }
+
+    private void blacklist(String tokenId, long expirationMillis) {
+        redisTemplate.opsForValue().set(blacklistKey(tokenId), "true", expirationMillis, TimeUnit.MILLISECONDS);
+
+        // 다른 노드는 이벤트로 받지만, 자기 자신은 구독 지연과 무관하게 즉시 반영한다.
+        long expiresAt = System.currentTimeMillis() + expirationMillis;
+        nearCache.add(tokenId, expiresAt);
+        redisTemplate.convertAndSend(BLACKLIST_CHANNEL, expiresAt + String.valueOf(EVENT_SEPARATOR) + tokenId);
+    }
+
+    /**
+     * 토큰 자체(jti)나 토큰의 세션(sid)이 블랙리스트에 있으면 true.
+     * 둘 다 near-cache가 판단하면 Redis를 조회하지 않고, 아니면 한 번의 왕복으로 함께 확인한다.
+     */
+    public boolean isBlacklisted(VerifiedToken accessToken) {
+        String tokenId = blacklistId(accessToken);
+        BlacklistNearCache.Result token = nearCache.check(tokenId);
+        if (token == BlacklistNearCache.Result.REVOKED) {
+            return true;
+        }
+
+        String sessionId = accessToken.sessionId() != null ? revokedSessionId(accessToken.sessionId()) : null;
+        BlacklistNearCache.Result session = sessionId != null
+                ? nearCache.check(sessionId)
+                : BlacklistNearCache.Result.NOT_REVOKED;
+        if (session == BlacklistNearCache.Result.REVOKED) {
+            return true;
+        }
+        if (token == BlacklistNearCache.Result.NOT_REVOKED && session == BlacklistNearCache.Result.NOT_REVOKED) {
+            return false;
+        }
+        return existsInRedis(accessToken, tokenId, sessionId);
+    }
+
+    /**
+     * 현재 Redis에 남아 있는 블랙리스트 ID를 순회한다. near-cache 초기 적재용.
+     * 이전 형식(전체 토큰) 키는 해시 ID로 바꿔 전달한다.
+     */
+    public void forEachBlacklisted(Consumer<String> consumer) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(BLACKLIST_PREFIX + "*")
+                .count(SCAN_BATCH_SIZE)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> {
+                String id = key.substring(BLACKLIST_PREFIX.length());
+                consumer.accept(isLegacyId(id) ? hash(id) : id);
+            });
+        }
+    }
+
+    /**
+     * 블랙리스트 키에 쓰는 고정 길이 ID. jti가 있으면 jti, 없으면(jti 도입 이전 토큰) 토큰의 SHA-256.
+     */
+    static String blacklistId(VerifiedToken token) {
+        return token.jti() != null ? token.jti() : hash(token.token());
+    }
+
+    /**
+     * 세션 블랙리스트 ID. jti(UUID)나 토큰 해시와 겹치지 않도록 접두사를 붙인다.
+     */
+    static String revokedSessionId(String sessionId) {
+        return REVOKED_SESSION_ID_PREFIX + sessionId;
+    }
+
+    private boolean existsInRedis(VerifiedToken accessToken, String tokenId, String sessionId) {
+        List<String> keys = new ArrayList<>(3);
+        keys.add(blacklistKey(tokenId));
+        if (accessToken.jti() == null && jwtProperties.getBlacklist().isLegacyKeyFallback()) {
+            // 배포 이전에 전체 토큰 키로 등록된 로그아웃도 한 번의 왕복으로 함께 확인한다.
+            keys.add(blacklistKey(accessToken.token()));
+        }
+        if (sessionId != null) {
+            keys.add(blacklistKey(sessionId));
+        }
+
+        if (keys.size() == 1) {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(keys.get(0)));
+        }
+        Long count = redisTemplate.countExistingKeys(keys);
+        return count != null && count > 0;
+    }
 
-    public void saveRefreshToken(Long memberId, String refreshToken, long expirationMillis) {
-        redisTemplate.opsForValue().set(refreshKey(memberId), refreshToken, expirationMillis, TimeUnit.MILLISECONDS);
+    private static boolean isLegacyId(String id) {
+        // UUID와 base64url 해시에는 '.'이 없고, JWT에는 항상 있다.
+        return id.indexOf('.') >= 0;
     }
 
-    public String getRefreshToken(Long memberId) {
-        return redisTemplate.opsForValue().get(refreshKey(memberId));
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 
-    public void deleteRefreshToken(Long memberId) {
-        redisTemplate.delete(refreshKey(memberId));
+    private static String sessionValue(String tokenHash, long createdAt, long lastUsedAt, long expiresAt, String device) {
+        String safeDevice = device == null ? "" : device.substring(0, Math.min(device.length(), MAX_DEVICE_LENGTH));
+        return tokenHash + SESSION_VALUE_SEPARATOR + createdAt + SESSION_VALUE_SEPARATOR + lastUsedAt
+                + SESSION_VALUE_SEPARATOR + expiresAt + SESSION_VALUE_SEPARATOR + safeDevice;
     }
 
-    public void blacklistAccessToken(String accessToken, long expirationMillis) {
-        redisTemplate.opsForValue().set(blacklistKey(accessToken), "true", expirationMillis, TimeUnit.MILLISECONDS);
+    /**
+     * {@code <토큰 해시>:<생성 시각>:<마지막 사용 시각>:<만료 시각>:<기기>} 형식을 읽는다. 형식이 다르면 null.
+     */
+    static RefreshSession parseSession(String sessionId, String value) {
+        String[] parts = value.split(String.valueOf(SESSION_VALUE_SEPARATOR), 5);
+        if (parts.length < 5) {
+            return null;
+        }
+        try {
+            return new RefreshSession(
+                    sessionId,
+                    parts[4].isEmpty() ? null : parts[4],
+                    Instant.ofEpochMilli(Long.parseLong(parts[1])),
+                    Instant.ofEpochMilli(Long.parseLong(parts[2])),
+                    Instant.ofEpochMilli(Long.parseLong(parts[3]))
+            );
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
-    public boolean isBlacklisted(String accessToken) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(blacklistKey(accessToken)));
+    private String sessionKey(Long memberId){
+        return SESSION_PREFIX + memberId;
     }
 
-    private String refreshKey(Long memberId){
-        return REFRESH_PREFIX + memberId;
+    private String blacklistKey(String tokenId){
+        return BLACKLIST_PREFIX + tokenId;
     }
 
-    private String blacklistKey(String token){
-        return BLACKLIST_PREFIX + token;
+    public enum RefreshRotation {
+        ROTATED,
+        /** 로그아웃, 만료, 한도 초과로 끊겨 세션이 없음 */
+        NOT_FOUND,
+        /** 이미 교체된 토큰이 다시 제시됨 */
+        REUSED
     }
 }
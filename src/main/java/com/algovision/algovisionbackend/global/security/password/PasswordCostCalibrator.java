@@ -0,0 +1,101 @@
+package com.algovision.algovisionbackend.global.security.password;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 이 장비에서 BCrypt cost별 해시 시간을 측정한다.
+ * {@code password.hashing.auto-tune=true}면 인코더를 만들 때 측정해 cost를 정하고,
+ * {@code password.hashing.calibration.enabled=true}면 기동 직후 별도 스레드에서 측정해 로그로만 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordCostCalibrator {
+    private static final String SAMPLE_PASSWORD = "calibration-Password1!";
+    private static final int SAMPLES = 3;
+
+    private final PasswordHashingProperties properties;
+
+    /**
+     * 사용할 BCrypt cost. autoTune이면 지금 측정해 목표 시간 안에 드는 가장 큰 cost를 고른다.
+     */
+    public int resolveStrength() {
+        if (!properties.isAutoTune()) {
+            return properties.getStrength();
+        }
+
+        PasswordHashingProperties.Calibration calibration = properties.getCalibration();
+        Map<Integer, Duration> measured = measure(calibration.getMinStrength(), calibration.getMaxStrength(),
+                calibration.getTargetLatency());
+        int strength = recommend(measured, calibration.getTargetLatency());
+        log.info("BCrypt cost 자동 선택: {} (측정 {}ms, 목표 {}ms)", strength,
+                measured.get(strength).toMillis(), calibration.getTargetLatency().toMillis());
+        return strength;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void calibrateOnStartup() {
+        if (!properties.getCalibration().isEnabled() || properties.isAutoTune()) {
+            return;
+        }
+        Thread.ofPlatform().daemon().name("password-cost-calibration").start(() -> {
+            PasswordHashingProperties.Calibration calibration = properties.getCalibration();
+            Map<Integer, Duration> measured = measure(calibration.getMinStrength(), calibration.getMaxStrength(),
+                    calibration.getTargetLatency());
+            measured.forEach((strength, elapsed) ->
+                    log.info("BCrypt cost {}: {}ms", strength, elapsed.toMillis()));
+            log.info("BCrypt cost 권장값: {} (목표 {}ms, 현재 {})",
+                    recommend(measured, calibration.getTargetLatency()),
+                    calibration.getTargetLatency().toMillis(), properties.getStrength());
+        });
+    }
+
+    /**
+     * cost별 해시 시간의 중앙값. 한 cost가 목표 시간의 4배를 넘으면 그보다 큰 cost는 측정하지 않는다.
+     */
+    public Map<Integer, Duration> measure(int minStrength, int maxStrength, Duration targetLatency) {
+        Map<Integer, Duration> measured = new LinkedHashMap<>();
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            Duration elapsed = median(new BCryptPasswordEncoder(strength));
+            measured.put(strength, elapsed);
+            if (elapsed.compareTo(targetLatency.multipliedBy(4)) > 0) {
+                break;
+            }
+        }
+        return measured;
+    }
+
+    /**
+     * 목표 시간 안에 드는 가장 큰 cost. 모두 넘으면 측정한 가장 작은 cost.
+     */
+    public static int recommend(Map<Integer, Duration> measured, Duration targetLatency) {
+        int recommended = measured.keySet().stream().mapToInt(Integer::intValue).min().orElseThrow();
+        for (Map.Entry<Integer, Duration> entry : measured.entrySet()) {
+            if (entry.getValue().compareTo(targetLatency) <= 0) {
+                recommended = Math.max(recommended, entry.getKey());
+            }
+        }
+        return recommended;
+    }
+
+    private static Duration median(BCryptPasswordEncoder encoder) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return Duration.ofNanos(samples[SAMPLES / 2]);
+    }
+}
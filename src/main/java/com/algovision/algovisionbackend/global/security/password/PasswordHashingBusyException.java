@@ -0,0 +1,12 @@
+package com.algovision.algovisionbackend.global.security.password;
+
+import com.algovision.algovisionbackend.common.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class PasswordHashingBusyException extends BaseException {
+    private static final HttpStatus STATUS_CODE = HttpStatus.SERVICE_UNAVAILABLE;
+
+    public PasswordHashingBusyException() {
+        super("요청이 많습니다. 잠시 후 다시 시도해주세요.", STATUS_CODE);
+    }
+}
@@ -0,0 +1,125 @@
+package com.algovision.algovisionbackend.global.security.password;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해시/검증 전용 실행 레인.
+ * <p>
+ * 스레드 수를 기본 코어 수 - 1로 묶어 로그인이 몰려도 요청 처리와 GC에 쓸 코어가 남게 하고,
+ * 대기열이 차거나 제한 시간 안에 끝나지 않으면 {@link PasswordHashingBusyException}(503)으로 거절한다.
+ * 호출한 요청 스레드는 결과를 기다리기만 한다.
+ * <p>
+ * BCrypt는 인터럽트를 확인하지 않으므로 제한 시간이 지나 {@code future.cancel(true)}를 호출해도
+ * 이미 시작한 해시는 끝까지 돌며 스레드를 차지한다. 취소가 실제로 막는 것은 아직 시작하지 않은 작업뿐이므로,
+ * 취소한 작업은 대기열에서 바로 치우고, 시작 시점에 이미 제한 시간만큼 기다린 작업은 해시 없이 거절한다.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final Map<PasswordHashingOperation, Timer> latencies = new EnumMap<>(PasswordHashingOperation.class);
+    private final Counter queueFull;
+    private final Counter timedOut;
+    private final Counter queueExpired;
+
+    public PasswordHashingExecutor(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        int threads = properties.getThreads() > 0
+                ? properties.getThreads()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofPlatform().daemon().name("password-hash-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeoutNanos = properties.getTimeout().toNanos();
+
+        new ExecutorServiceMetrics(executor, "password.hashing", List.of()).bindTo(meterRegistry);
+        this.queueFull = meterRegistry.counter("password.hashing.rejected", "reason", "queue_full");
+        this.timedOut = meterRegistry.counter("password.hashing.rejected", "reason", "timeout");
+        this.queueExpired = meterRegistry.counter("password.hashing.rejected", "reason", "queue_expired");
+        for (PasswordHashingOperation operation : PasswordHashingOperation.values()) {
+            latencies.put(operation, Timer.builder("password.hashing.latency")
+                    .tag("operation", operation.getTag())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * @param operation 지연 시간을 기록할 작업 종류
+     * @throws PasswordHashingBusyException 대기열이 가득 찼거나 제한 시간을 넘긴 경우
+     */
+    public <T> T execute(PasswordHashingOperation operation, Callable<T> task) {
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                // 호출자가 포기한 뒤에 시작된 작업이면 CPU를 쓰지 않고 버린다.
+                if (System.nanoTime() - start >= timeoutNanos) {
+                    queueExpired.increment();
+                    throw new PasswordHashingBusyException();
+                }
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            queueFull.increment();
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            cancel(future);
+            timedOut.increment();
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException e) {
+            cancel(future);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            latencies.get(operation).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void cancel(Future<?> future) {
+        future.cancel(true);
+        // 취소된 작업이 대기열 자리를 차지하지 않도록 바로 치운다.
+        executor.purge();
+    }
+
+    public int queueSize() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,19 @@
+package com.algovision.algovisionbackend.global.security.password;
+
+/**
+ * {@link PasswordHashingExecutor}에서 실행하는 작업 종류. 지연 시간 메트릭의 operation 태그로 쓰인다.
+ */
+public enum PasswordHashingOperation {
+    ENCODE("encode"),
+    MATCHES("matches");
+
+    private final String tag;
+
+    PasswordHashingOperation(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
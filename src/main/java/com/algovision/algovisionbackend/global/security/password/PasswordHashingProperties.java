@@ -0,0 +1,42 @@
+package com.algovision.algovisionbackend.global.security.password;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "password.hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+    /** BCrypt cost (log2 rounds). autoTune이 켜져 있으면 무시한다. */
+    private int strength = 10;
+    /**
+     * true면 기동 시 측정한 결과로 cost를 정한다. 로그인 시 cost가 다른 해시는 새 cost로 다시 저장된다.
+     */
+    private boolean autoTune = false;
+    /** 해시 전용 스레드 수. 0이면 CPU 코어 수 - 1(최소 1). */
+    private int threads = 0;
+    /** 대기열 최대 길이. 가득 차면 바로 503으로 거절한다. */
+    private int queueCapacity = 64;
+    /** 대기를 포함해 해시 한 번을 기다리는 최대 시간. */
+    private Duration timeout = Duration.ofSeconds(3);
+
+    private Calibration calibration = new Calibration();
+
+    /**
+     * cost 측정 범위와 목표 시간. enabled면 autoTune이 꺼져 있어도 기동 후 측정 결과를 로그로 남긴다.
+     */
+    @Getter
+    @Setter
+    public static class Calibration {
+        private boolean enabled = false;
+        /** 해시 한 번에 허용하는 시간. 이 안에 드는 가장 큰 cost를 고른다. */
+        private Duration targetLatency = Duration.ofMillis(100);
+        private int minStrength = 10;
+        private int maxStrength = 14;
+    }
+}
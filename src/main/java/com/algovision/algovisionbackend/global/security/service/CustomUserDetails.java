@@ -1,18 +1,33 @@
 package com.algovision.algovisionbackend.global.security.service;
 
 import com.algovision.algovisionbackend.modules.auth.domain.Member;
+import com.algovision.algovisionbackend.modules.auth.domain.Role;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 public record CustomUserDetails(Member member) implements UserDetails {
 
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    public static List<GrantedAuthority> authoritiesOf(Role role) {
+        return AUTHORITIES.get(role);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + member.getRole().name()));
+        return authoritiesOf(member.getRole());
     }
 
     @Override
@@ -42,6 +57,6 @@ public record CustomUserDetails(Member member) implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return !member.isDeleted();
     }
 }
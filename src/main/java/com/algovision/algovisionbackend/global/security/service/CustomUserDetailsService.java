@@ -13,10 +13,15 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final MemberDetailsCache memberDetailsCache;
 
     @Override
     public UserDetails loadUserByUsername(String memberId) throws UsernameNotFoundException {
-        Member member = memberRepository.findById(Long.valueOf(memberId))
+        return memberDetailsCache.get(Long.valueOf(memberId), this::load);
+    }
+
+    private UserDetails load(Long memberId) {
+        Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + memberId));
 
         return new CustomUserDetails(member);
@@ -0,0 +1,77 @@
+package com.algovision.algovisionbackend.global.security.service;
+
+import com.algovision.algovisionbackend.global.security.config.AuthProperties;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 회원 ID → {@link UserDetails} 로컬 LRU 캐시.
+ * 최대 크기와 TTL로 제한되며, 회원 정보가 바뀌는 경로(닉네임 변경, 탈퇴, 권한 변경)에서 {@link #evict(Long)}를 호출해야 한다.
+ */
+@Component
+public class MemberDetailsCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> entries;
+    /** evict할 때마다 증가한다. 조회 중에 바뀌었으면 조회 결과가 낡았을 수 있으므로 저장하지 않는다. */
+    private long evictions;
+
+    public MemberDetailsCache(AuthProperties authProperties) {
+        this.maxSize = authProperties.getMemberCache().getMaxSize();
+        this.ttlNanos = authProperties.getMemberCache().getTtl().toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public UserDetails get(Long memberId, Function<Long, UserDetails> loader) {
+        long now = System.nanoTime();
+        Entry entry;
+        long evictionsBeforeLoad;
+        lock.lock();
+        try {
+            entry = entries.get(memberId);
+            evictionsBeforeLoad = evictions;
+        } finally {
+            lock.unlock();
+        }
+        if (entry != null && now - entry.loadedAt() < ttlNanos) {
+            return entry.details();
+        }
+
+        // DB 조회는 락 밖에서 수행한다. 그 사이 evict가 있었다면 결과를 캐시에 되살리지 않는다.
+        UserDetails loaded = loader.apply(memberId);
+        lock.lock();
+        try {
+            if (evictions == evictionsBeforeLoad) {
+                entries.put(memberId, new Entry(loaded, now));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return loaded;
+    }
+
+    public void evict(Long memberId) {
+        lock.lock();
+        try {
+            entries.remove(memberId);
+            evictions++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(UserDetails details, long loadedAt) {
+    }
+}
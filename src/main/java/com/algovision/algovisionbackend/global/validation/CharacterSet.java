@@ -0,0 +1,159 @@
+package com.algovision.algovisionbackend.global.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 허용 문자 집합. 정규식 대신 ASCII 비트 테이블과 비 ASCII 범위 목록으로 판정해 검사 중 객체를 만들지 않는다.
+ * <p>
+ * 정의는 정규식 문자 클래스의 안쪽과 같은 형식이다. 예: {@code a-zA-Z0-9가-힣_.\-}
+ * 범위는 {@code x-y}, 문자 그대로의 {@code -}와 {@code \}는 {@code \-}, {@code \\}로 쓴다.
+ */
+public final class CharacterSet {
+    private static final Map<String, CharacterSet> CACHE = new ConcurrentHashMap<>();
+
+    /** ASCII 0~63, 64~127 허용 여부 비트. */
+    private final long asciiLow;
+    private final long asciiHigh;
+    /** 비 ASCII 허용 범위. [from0, to0, from1, to1, ...] 오름차순. */
+    private final int[] ranges;
+
+    private CharacterSet(long asciiLow, long asciiHigh, int[] ranges) {
+        this.asciiLow = asciiLow;
+        this.asciiHigh = asciiHigh;
+        this.ranges = ranges;
+    }
+
+    /** 같은 정의는 한 번만 해석해 공유한다. */
+    public static CharacterSet of(String definition) {
+        return CACHE.computeIfAbsent(definition, CharacterSet::parse);
+    }
+
+    public boolean contains(int codePoint) {
+        if (codePoint < 64) {
+            return codePoint >= 0 && (asciiLow & (1L << codePoint)) != 0;
+        }
+        if (codePoint < 128) {
+            return (asciiHigh & (1L << (codePoint - 64))) != 0;
+        }
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (codePoint < ranges[i]) {
+                return false;
+            }
+            if (codePoint <= ranges[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 모든 문자가 집합에 속하면 문자(code point) 수를, 하나라도 벗어나면 -1을 반환한다.
+     * 짝이 맞지 않는 surrogate는 벗어난 문자로 본다.
+     */
+    public int countIfAllAllowed(CharSequence s) {
+        int count = 0;
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(c, s.charAt(++i));
+            } else if (Character.isSurrogate(c)) {
+                return -1;
+            }
+            if (!contains(codePoint)) {
+                return -1;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private static CharacterSet parse(String definition) {
+        long low = 0;
+        long high = 0;
+        List<int[]> ranges = new ArrayList<>();
+
+        Cursor cursor = new Cursor(definition);
+        while (cursor.hasNext()) {
+            int from = cursor.next();
+            int to = from;
+            if (cursor.atRangeDash()) {
+                cursor.skipDash();
+                to = cursor.next();
+            }
+            if (to < from) {
+                throw new IllegalArgumentException("잘못된 문자 범위: " + definition);
+            }
+            for (int cp = from; cp <= Math.min(to, 127); cp++) {
+                if (cp < 64) {
+                    low |= 1L << cp;
+                } else {
+                    high |= 1L << (cp - 64);
+                }
+            }
+            if (to >= 128) {
+                ranges.add(new int[]{Math.max(from, 128), to});
+            }
+        }
+        return new CharacterSet(low, high, merge(ranges));
+    }
+
+    private static int[] merge(List<int[]> ranges) {
+        ranges.sort((a, b) -> Integer.compare(a[0], b[0]));
+        List<int[]> merged = new ArrayList<>();
+        for (int[] range : ranges) {
+            int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range[0] <= last[1] + 1) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(range.clone());
+            }
+        }
+        int[] flat = new int[merged.size() * 2];
+        for (int i = 0; i < merged.size(); i++) {
+            flat[i * 2] = merged.get(i)[0];
+            flat[i * 2 + 1] = merged.get(i)[1];
+        }
+        return flat;
+    }
+
+    private static final class Cursor {
+        private final String definition;
+        private int pos;
+
+        private Cursor(String definition) {
+            this.definition = definition;
+        }
+
+        boolean hasNext() {
+            return pos < definition.length();
+        }
+
+        /** 범위 기호 '-'. 맨 끝의 '-'는 문자 그대로다. */
+        boolean atRangeDash() {
+            return pos + 1 < definition.length() && definition.charAt(pos) == '-';
+        }
+
+        void skipDash() {
+            pos++;
+        }
+
+        int next() {
+            int cp = definition.codePointAt(pos);
+            pos += Character.charCount(cp);
+            if (cp != '\\') {
+                return cp;
+            }
+            if (!hasNext()) {
+                throw new IllegalArgumentException("끝나지 않은 이스케이프: " + definition);
+            }
+            int escaped = definition.codePointAt(pos);
+            pos += Character.charCount(escaped);
+            return escaped;
+        }
+    }
+}
@@ -22,4 +22,9 @@ public @interface Nickname {
     int max() default 20;
 
     boolean allowBlank() default false;
+
+    /**
+     * 허용 문자. 정규식 문자 클래스의 안쪽과 같은 형식이다. ({@link CharacterSet} 참고)
+     */
+    String allowed() default "a-zA-Z0-9가-힣_\\-.";
 }
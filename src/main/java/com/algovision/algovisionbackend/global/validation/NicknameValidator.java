@@ -3,20 +3,23 @@ package com.algovision.algovisionbackend.global.validation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import java.util.regex.Pattern;
-
+/**
+ * 길이는 UTF-16 단위가 아니라 문자(code point) 수로 센다.
+ * 허용 문자 검사와 길이 계산을 한 번의 순회로 끝내며 객체를 만들지 않는다.
+ */
 public class NicknameValidator implements ConstraintValidator<Nickname, String> {
-    private static final Pattern ALLOWED=Pattern.compile("^[a-zA-Z0-9가-힣_\\-\\.]+$");
 
     private int min;
     private int max;
     private boolean allowBlank;
+    private CharacterSet allowed;
 
     @Override
     public void initialize(Nickname constraintAnnotation) {
         this.min = constraintAnnotation.min();
         this.max = constraintAnnotation.max();
         this.allowBlank = constraintAnnotation.allowBlank();
+        this.allowed = CharacterSet.of(constraintAnnotation.allowed());
     }
 
     @Override
@@ -29,11 +32,12 @@ public class NicknameValidator implements ConstraintValidator<Nickname, String>
             return allowBlank;
         }
 
-        int len = s.length();
-        if(len < min || len > max){
+        // 최대 길이를 넘는 입력은 UTF-16 길이만으로 걸러 끝까지 훑지 않는다.
+        if(s.length() > max * 2){
             return false;
         }
 
-        return ALLOWED.matcher(s).matches();
+        int len = allowed.countIfAllAllowed(s);
+        return len >= 0 && len >= min && len <= max;
     }
 }
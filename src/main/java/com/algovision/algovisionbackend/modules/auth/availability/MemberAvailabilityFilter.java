@@ -0,0 +1,109 @@
+package com.algovision.algovisionbackend.modules.auth.availability;
+
+import com.algovision.algovisionbackend.common.util.BloomFilter;
+import com.algovision.algovisionbackend.common.util.CollationFolding;
+import com.algovision.algovisionbackend.modules.auth.config.MemberAvailabilityProperties;
+import com.algovision.algovisionbackend.modules.auth.sync.MemberChangeHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용 중인 이메일/닉네임의 노드 로컬 Bloom filter.
+ * <p>
+ * {@link #mightBeTakenEmail(String)}가 false면 확실히 사용 가능한 값이고, true면 DB로 확인해야 한다.
+ * 적재가 끝나기 전에는 항상 true다. Bloom filter는 삭제가 불가능하므로 바뀌기 전 닉네임은
+ * 다음 재적재까지 "사용 중일 수 있음"으로 남는다. 이때도 DB 조회로 한 번 더 거를 뿐 결과는 같다.
+ * <p>
+ * DB의 {@code =} 비교({@code utf8mb4_unicode_ci}, PAD SPACE)와 같은 값을 같은 키로 넣도록
+ * {@link CollationFolding}으로 대소문자, 악센트를 접고 끝의 공백을 지운다.
+ * 접은 조회값에 ASCII/한글 밖의 문자가 남으면 필터를 믿지 않고 DB로 확인한다.
+ * 저장된 값의 그런 문자가 콜레이션에서 여러 글자와 같게 비교되는 경우(æ = ae, ß = ss)는 흉내 내지 않으므로,
+ * 이런 값과 겹치는 ASCII 조회는 사용 가능으로 답할 수 있다. 이 경우 가입 시 유니크 인덱스가 중복을 막는다.
+ */
+@Component
+public class MemberAvailabilityFilter implements MemberChangeHandler {
+
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile Filters filters;
+    private volatile boolean ready;
+
+    public MemberAvailabilityFilter(MemberAvailabilityProperties properties) {
+        MemberAvailabilityProperties.Filter filter = properties.getFilter();
+        this.enabled = filter.isEnabled();
+        this.expectedInsertions = filter.getExpectedInsertions();
+        this.falsePositiveRate = filter.getFalsePositiveRate();
+        this.filters = newFilters();
+    }
+
+    public boolean mightBeTakenEmail(String email) {
+        return mightContain(filters.emails(), email);
+    }
+
+    public boolean mightBeTakenNickname(String nickname) {
+        return mightContain(filters.nicknames(), nickname);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void upsert(Long id, String email, String nickname) {
+        Filters current = filters;
+        current.emails().put(normalize(email));
+        current.nicknames().put(normalize(nickname));
+    }
+
+    /**
+     * 회원 행이 사라져도 Bloom filter에서는 지울 수 없다. 다음 재적재 때 빠진다.
+     */
+    @Override
+    public void remove(Long id) {
+    }
+
+    @Override
+    public void reset() {
+        markStale();
+        filters = newFilters();
+    }
+
+    @Override
+    public void markReady() {
+        this.ready = true;
+    }
+
+    @Override
+    public void markStale() {
+        this.ready = false;
+    }
+
+    private Filters newFilters() {
+        return new Filters(
+                BloomFilter.create(expectedInsertions, falsePositiveRate),
+                BloomFilter.create(expectedInsertions, falsePositiveRate)
+        );
+    }
+
+    private boolean mightContain(BloomFilter filter, String value) {
+        if (!ready) {
+            return true;
+        }
+        String key = normalize(value);
+        return !CollationFolding.isModeled(key) || filter.mightContain(key);
+    }
+
+    private static String normalize(String value) {
+        String folded = CollationFolding.fold(value);
+        int end = folded.length();
+        while (end > 0 && folded.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return folded.substring(0, end);
+    }
+
+    private record Filters(BloomFilter emails, BloomFilter nicknames) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.algovision.algovisionbackend.modules.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "member.availability")
+@Getter
+@Setter
+public class MemberAvailabilityProperties {
+    private Filter filter = new Filter();
+    private RateLimit rateLimit = new RateLimit();
+
+    /**
+     * 사용 중인 이메일/닉네임의 Bloom filter. 음성이면 DB 조회 없이 "사용 가능"으로 응답한다.
+     */
+    @Getter
+    @Setter
+    public static class Filter {
+        private boolean enabled = false;
+        private long expectedInsertions = 1_000_000;
+        private double falsePositiveRate = 0.01;
+    }
+
+    /**
+     * 클라이언트(IP)별 노드 로컬 요청 제한.
+     */
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private int limit = 30;
+        private Duration window = Duration.ofMinutes(1);
+        private int maxClients = 10_000;
+    }
+}
@@ -0,0 +1,38 @@
+package com.algovision.algovisionbackend.modules.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "member.search")
+@Getter
+@Setter
+public class MemberSearchProperties {
+    private CountCache countCache = new CountCache();
+    private NgramIndex ngramIndex = new NgramIndex();
+
+    /**
+     * 검색 조건별 전체 건수 캐시. 목록을 주기적으로 새로 고치는 관리자 화면용이며, 건수가 ttl만큼 늦게 반영될 수 있다.
+     */
+    @Getter
+    @Setter
+    public static class CountCache {
+        private boolean enabled = false;
+        private int maxSize = 1_000;
+        private Duration ttl = Duration.ofSeconds(10);
+    }
+
+    /**
+     * 이메일/닉네임 부분 검색용 노드 로컬 trigram 색인. 회원 한 명당 수백 바이트의 힙을 사용한다.
+     */
+    @Getter
+    @Setter
+    public static class NgramIndex {
+        private boolean enabled = false;
+        private int maxCandidates = 1_000;
+    }
+}
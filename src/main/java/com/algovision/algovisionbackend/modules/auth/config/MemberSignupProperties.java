@@ -0,0 +1,18 @@
+package com.algovision.algovisionbackend.modules.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "member.signup")
+@Getter
+@Setter
+public class MemberSignupProperties {
+    /**
+     * true면 비밀번호를 해시하기 전에 이메일/닉네임 중복을 쿼리 한 번으로 먼저 확인한다.
+     * false여도 중복은 유니크 인덱스 위반으로 걸러진다.
+     */
+    private boolean precheckDuplicates = false;
+}
@@ -1,19 +1,28 @@
 package com.algovision.algovisionbackend.modules.auth.controller;
 
+import com.algovision.algovisionbackend.global.security.jwt.dto.VerifiedToken;
+import com.algovision.algovisionbackend.global.security.jwt.filter.JwtAuthenticationFilter;
 import com.algovision.algovisionbackend.global.security.jwt.service.AuthTokenService;
 import com.algovision.algovisionbackend.modules.auth.dto.*;
+import com.algovision.algovisionbackend.modules.auth.exception.SessionNotFoundException;
+import com.algovision.algovisionbackend.modules.auth.service.MemberAvailabilityService;
 import com.algovision.algovisionbackend.modules.auth.service.MemberService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/members")
 public class MemberController {
     private final MemberService memberService;
+    private final MemberAvailabilityService availabilityService;
     private final AuthTokenService authTokenService;
 
     @PostMapping("/signup")
@@ -21,9 +30,34 @@ public class MemberController {
         return ResponseEntity.ok(memberService.signup(request));
     }
 
+    @PostMapping("/check-email")
+    public ResponseEntity<AvailabilityResponse> checkEmail(
+            @RequestBody @Valid CheckEmailRequest request,
+            HttpServletRequest servletRequest
+    ) {
+        return ResponseEntity.ok(availabilityService.checkEmail(servletRequest.getRemoteAddr(), request.email()));
+    }
+
+    @PostMapping("/check-nickname")
+    public ResponseEntity<AvailabilityResponse> checkNickname(
+            @RequestBody @Valid CheckNicknameRequest request,
+            HttpServletRequest servletRequest
+    ) {
+        return ResponseEntity.ok(availabilityService.checkNickname(servletRequest.getRemoteAddr(), request.nickname()));
+    }
+
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@RequestBody @Valid LoginRequest request) {
-        return ResponseEntity.ok(memberService.login(request));
+    public ResponseEntity<AuthResponse> login(
+            @RequestBody @Valid LoginRequest request,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
+            HttpServletRequest servletRequest
+    ) {
+        return ResponseEntity.ok(memberService.login(request, userAgent, servletRequest.getRemoteAddr()));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody @Valid RefreshTokenRequest request) {
+        return ResponseEntity.ok(memberService.refresh(request));
     }
 
     @GetMapping("/me")
@@ -33,21 +67,46 @@ public class MemberController {
 
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(
-            @RequestHeader("Authorization") String accessToken,
-            @AuthenticationPrincipal Long memberId
+            @RequestAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTRIBUTE) VerifiedToken accessToken
     ) {
-        String token = extractToken(accessToken);
-        authTokenService.logout(token, memberId);
+        authTokenService.logout(accessToken);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping("/sessions")
+    public ResponseEntity<List<SessionResponse>> getSessions(
+            @RequestAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTRIBUTE) VerifiedToken accessToken
+    ) {
+        List<SessionResponse> sessions = authTokenService.getSessions(accessToken.memberId()).stream()
+                .map(session -> SessionResponse.of(session, accessToken.sessionId()))
+                .toList();
+        return ResponseEntity.ok(sessions);
+    }
+
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Void> revokeSession(
+            @RequestAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTRIBUTE) VerifiedToken accessToken,
+            @PathVariable String sessionId
+    ) {
+        if (!authTokenService.revokeSession(accessToken, sessionId)) {
+            throw SessionNotFoundException.INSTANCE;
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/sessions")
+    public ResponseEntity<Void> revokeAllSessions(
+            @RequestAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTRIBUTE) VerifiedToken accessToken
+    ) {
+        authTokenService.logoutAllDevices(accessToken);
         return ResponseEntity.ok().build();
     }
 
     @PostMapping("/withdraw")
     public ResponseEntity<Void> withdraw(
-            @RequestHeader("Authorization") String accessToken,
-            @AuthenticationPrincipal Long memberId
+            @RequestAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTRIBUTE) VerifiedToken accessToken
     ) {
-        String token = extractToken(accessToken);
-        memberService.withdraw(token, memberId);
+        memberService.withdraw(accessToken);
         return ResponseEntity.ok().build();
     }
 
@@ -68,10 +127,4 @@ public class MemberController {
         MemberResponse response = memberService.changeNickname(memberId, request);
         return ResponseEntity.ok(response);
     }
-
-    private String extractToken(String header) {
-        return header != null && header.startsWith("Bearer ")
-                ? header.substring(7)
-                : header;
-    }
 }
@@ -10,8 +10,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Entity
 @Table(name = "members",
         indexes = {
-                @Index(name = "idx_member_email", columnList = "email", unique = true),
-                @Index(name = "idx_member_nickname", columnList = "nickname", unique = true)
+                @Index(name = Member.EMAIL_UNIQUE_INDEX, columnList = "email", unique = true),
+                @Index(name = Member.NICKNAME_UNIQUE_INDEX, columnList = "nickname", unique = true),
+                @Index(name = "idx_member_created_at_id", columnList = "createdAt, id")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -19,17 +20,20 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @ToString(exclude = "passwordHash")
 @Builder
 public class Member extends BaseEntity {
+    public static final String EMAIL_UNIQUE_INDEX = "idx_member_email";
+    public static final String NICKNAME_UNIQUE_INDEX = "idx_member_nickname";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 255)
+    @Column(nullable = false, length = 255)
     private String email;
 
-    @Column(nullable = false, length = 60)
+    @Column(nullable = false, length = 100)
     private String passwordHash;
 
-    @Column(nullable = false, unique = true, length = 50)
+    @Column(nullable = false, length = 50)
     private String nickname;
 
     @Builder.Default
@@ -0,0 +1,9 @@
+package com.algovision.algovisionbackend.modules.auth.domain;
+
+public enum MemberStatus {
+    ACTIVE, WITHDRAWN;
+
+    public static MemberStatus of(Member member) {
+        return member.isDeleted() ? WITHDRAWN : ACTIVE;
+    }
+}
@@ -2,6 +2,7 @@ package com.algovision.algovisionbackend.modules.auth.dto;
 
 public record AuthResponse(
         MemberResponse member,
-        String accessToken
+        String accessToken,
+        String refreshToken
 ) {
 }
@@ -0,0 +1,37 @@
+package com.algovision.algovisionbackend.modules.auth.dto;
+
+import com.algovision.algovisionbackend.modules.auth.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 회원 목록 커서. 정렬 키 (createdAt, id)의 마지막 값을 담으며, 클라이언트에는 불투명한 문자열로 전달한다.
+ */
+public record MemberCursor(LocalDateTime createdAt, Long id) {
+    private static final char SEPARATOR = ',';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MemberCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new MemberCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw InvalidCursorException.INSTANCE;
+        }
+    }
+
+    public static MemberCursor of(MemberResponse member) {
+        return new MemberCursor(member.createdAt(), member.id());
+    }
+}
@@ -0,0 +1,13 @@
+package com.algovision.algovisionbackend.modules.auth.dto;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지 요청에 넘길 커서. 마지막 페이지면 null
+ */
+public record MemberCursorPage(
+        List<MemberResponse> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
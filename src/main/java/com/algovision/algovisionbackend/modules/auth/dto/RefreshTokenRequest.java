@@ -0,0 +1,8 @@
+package com.algovision.algovisionbackend.modules.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+        @NotBlank String refreshToken
+) {
+}
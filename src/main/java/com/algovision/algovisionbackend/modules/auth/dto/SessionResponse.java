@@ -0,0 +1,31 @@
+package com.algovision.algovisionbackend.modules.auth.dto;
+
+import com.algovision.algovisionbackend.global.security.jwt.dto.RefreshSession;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public record SessionResponse(
+        String sessionId,
+        String device,
+        LocalDateTime createdAt,
+        LocalDateTime lastUsedAt,
+        LocalDateTime expiresAt,
+        boolean current
+) {
+    public static SessionResponse of(RefreshSession session, String currentSessionId) {
+        return new SessionResponse(
+                session.sessionId(),
+                session.device(),
+                toLocal(session.createdAt()),
+                toLocal(session.lastUsedAt()),
+                toLocal(session.expiresAt()),
+                session.sessionId().equals(currentSessionId)
+        );
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
@@ -1,9 +1,9 @@
 package com.algovision.algovisionbackend.modules.auth.exception;
 
-import com.algovision.algovisionbackend.common.exception.BaseException;
+import com.algovision.algovisionbackend.common.exception.ClientException;
 import org.springframework.http.HttpStatus;
 
-public class DuplicateEmailException extends BaseException {
+public class DuplicateEmailException extends ClientException {
     private static final HttpStatus STATUS_CODE = HttpStatus.CONFLICT;
 
     public DuplicateEmailException(String email) {
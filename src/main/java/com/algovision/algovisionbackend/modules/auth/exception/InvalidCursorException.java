@@ -0,0 +1,13 @@
+package com.algovision.algovisionbackend.modules.auth.exception;
+
+import com.algovision.algovisionbackend.common.exception.ClientException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends ClientException {
+    private static final HttpStatus STATUS_CODE = HttpStatus.BAD_REQUEST;
+    public static final InvalidCursorException INSTANCE = new InvalidCursorException();
+
+    private InvalidCursorException() {
+        super("잘못된 커서 값입니다.", STATUS_CODE);
+    }
+}
@@ -1,12 +1,13 @@
 package com.algovision.algovisionbackend.modules.auth.exception;
 
-import com.algovision.algovisionbackend.common.exception.BaseException;
+import com.algovision.algovisionbackend.common.exception.ClientException;
 import org.springframework.http.HttpStatus;
 
-public class InvalidLoginException extends BaseException {
+public class InvalidLoginException extends ClientException {
     private static final HttpStatus STATUS_CODE = HttpStatus.UNAUTHORIZED;
+    public static final InvalidLoginException INSTANCE = new InvalidLoginException();
 
-    public InvalidLoginException() {
+    private InvalidLoginException() {
         super("이메일 또는 비밀번호가 일치하지 않습니다.", STATUS_CODE);
     }
 }
@@ -0,0 +1,13 @@
+package com.algovision.algovisionbackend.modules.auth.exception;
+
+import com.algovision.algovisionbackend.common.exception.ClientException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidRefreshTokenException extends ClientException {
+    private static final HttpStatus STATUS_CODE = HttpStatus.UNAUTHORIZED;
+    public static final InvalidRefreshTokenException INSTANCE = new InvalidRefreshTokenException();
+
+    private InvalidRefreshTokenException() {
+        super("유효하지 않은 refresh 토큰입니다. 다시 로그인해 주세요.", STATUS_CODE);
+    }
+}
@@ -1,12 +1,13 @@
 package com.algovision.algovisionbackend.modules.auth.exception;
 
-import com.algovision.algovisionbackend.common.exception.BaseException;
+import com.algovision.algovisionbackend.common.exception.ClientException;
 import org.springframework.http.HttpStatus;
 
-public class MemberNotFoundException extends BaseException {
+public class MemberNotFoundException extends ClientException {
     private static final HttpStatus STATUS_CODE = HttpStatus.NOT_FOUND;
+    public static final MemberNotFoundException INSTANCE = new MemberNotFoundException();
 
-    public MemberNotFoundException() {
+    private MemberNotFoundException() {
         super("존재하지 않는 회원입니다", STATUS_CODE);
     }
 }
@@ -1,12 +1,13 @@
 package com.algovision.algovisionbackend.modules.auth.exception;
 
-import com.algovision.algovisionbackend.common.exception.BaseException;
+import com.algovision.algovisionbackend.common.exception.ClientException;
 import org.springframework.http.HttpStatus;
 
-public class PasswordMismatchException extends BaseException {
+public class PasswordMismatchException extends ClientException {
     private static final HttpStatus STATUS_CODE = HttpStatus.BAD_REQUEST;
+    public static final PasswordMismatchException INSTANCE = new PasswordMismatchException();
 
-    public PasswordMismatchException() {
+    private PasswordMismatchException() {
         super("현재 비밀번호가 일치하지 않습니다.", STATUS_CODE);
     }
 }
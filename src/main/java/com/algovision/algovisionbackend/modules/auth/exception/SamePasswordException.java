@@ -1,12 +1,13 @@
 package com.algovision.algovisionbackend.modules.auth.exception;
 
-import com.algovision.algovisionbackend.common.exception.BaseException;
+import com.algovision.algovisionbackend.common.exception.ClientException;
 import org.springframework.http.HttpStatus;
 
-public class SamePasswordException extends BaseException {
+public class SamePasswordException extends ClientException {
     private static final HttpStatus STATUS_CODE = HttpStatus.CONFLICT;
+    public static final SamePasswordException INSTANCE = new SamePasswordException();
 
-    public SamePasswordException() {
+    private SamePasswordException() {
         super("새 비밀번호는 현재 비밀번호와 달라야 합니다.", STATUS_CODE);
     }
 }
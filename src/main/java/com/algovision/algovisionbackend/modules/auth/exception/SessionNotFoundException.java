@@ -0,0 +1,13 @@
+package com.algovision.algovisionbackend.modules.auth.exception;
+
+import com.algovision.algovisionbackend.common.exception.ClientException;
+import org.springframework.http.HttpStatus;
+
+public class SessionNotFoundException extends ClientException {
+    private static final HttpStatus STATUS_CODE = HttpStatus.NOT_FOUND;
+    public static final SessionNotFoundException INSTANCE = new SessionNotFoundException();
+
+    private SessionNotFoundException() {
+        super("존재하지 않거나 이미 종료된 세션입니다.", STATUS_CODE);
+    }
+}
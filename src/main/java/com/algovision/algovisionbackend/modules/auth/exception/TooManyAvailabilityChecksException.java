@@ -0,0 +1,13 @@
+package com.algovision.algovisionbackend.modules.auth.exception;
+
+import com.algovision.algovisionbackend.common.exception.ClientException;
+import org.springframework.http.HttpStatus;
+
+public class TooManyAvailabilityChecksException extends ClientException {
+    private static final HttpStatus STATUS_CODE = HttpStatus.TOO_MANY_REQUESTS;
+    public static final TooManyAvailabilityChecksException INSTANCE = new TooManyAvailabilityChecksException();
+
+    private TooManyAvailabilityChecksException() {
+        super("중복 확인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", STATUS_CODE);
+    }
+}
@@ -0,0 +1,13 @@
+package com.algovision.algovisionbackend.modules.auth.exception;
+
+import com.algovision.algovisionbackend.common.exception.ClientException;
+import org.springframework.http.HttpStatus;
+
+public class TooManyLoginAttemptsException extends ClientException {
+    private static final HttpStatus STATUS_CODE = HttpStatus.TOO_MANY_REQUESTS;
+    public static final TooManyLoginAttemptsException INSTANCE = new TooManyLoginAttemptsException();
+
+    private TooManyLoginAttemptsException() {
+        super("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", STATUS_CODE);
+    }
+}
@@ -1,10 +1,13 @@
 package com.algovision.algovisionbackend.modules.auth.repository;
 
+import com.algovision.algovisionbackend.modules.auth.dto.MemberCursorPage;
 import com.algovision.algovisionbackend.modules.auth.dto.MemberResponse;
 import com.algovision.algovisionbackend.modules.auth.dto.MemberSearchCondition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CustomMemberRepository {
@@ -12,5 +15,28 @@ public interface CustomMemberRepository {
 
     Optional<MemberResponse> findByNickname(String nickname);
 
+    /**
+     * 이메일 또는 닉네임이 같은 회원을 최대 2건 조회한다. 가입 전 중복 확인과 가입 실패 시 원인 확인용.
+     */
+    List<MemberResponse> findDuplicates(String email, String nickname);
+
     Page<MemberResponse> search(MemberSearchCondition condition, Pageable pageable);
+
+    /**
+     * 다음 페이지 존재 여부만 필요한 경우. pageSize + 1건을 조회하고 COUNT 쿼리는 실행하지 않는다.
+     */
+    Slice<MemberResponse> searchSlice(MemberSearchCondition condition, Pageable pageable);
+
+    /**
+     * (createdAt, id) 내림차순 키셋 페이지네이션. 앞 페이지를 건너뛰지 않으므로 깊은 페이지도 비용이 같다.
+     *
+     * @param cursor 이전 페이지의 {@link MemberCursorPage#nextCursor()}, 첫 페이지면 null
+     * @param size   페이지 크기. 1~100 범위를 벗어나면 가까운 경계값으로 맞춘다.
+     */
+    MemberCursorPage searchByCursor(MemberSearchCondition condition, String cursor, int size);
+
+    /**
+     * id가 afterId보다 큰 회원을 id 오름차순으로 size건 조회한다. 검색 색인 적재용.
+     */
+    List<MemberResponse> findBatchAfterId(long afterId, int size);
 }
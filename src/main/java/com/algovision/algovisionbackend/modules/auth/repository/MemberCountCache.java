@@ -0,0 +1,91 @@
+package com.algovision.algovisionbackend.modules.auth.repository;
+
+import com.algovision.algovisionbackend.modules.auth.config.MemberSearchProperties;
+import com.algovision.algovisionbackend.modules.auth.domain.Role;
+import com.algovision.algovisionbackend.modules.auth.dto.MemberSearchCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 회원 검색 COUNT 결과의 짧은 TTL 캐시. 키는 정규화한 검색 조건이다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "member.search.count-cache", name = "enabled", havingValue = "true")
+public class MemberCountCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, Entry> entries;
+
+    public MemberCountCache(MemberSearchProperties properties) {
+        this.maxSize = properties.getCountCache().getMaxSize();
+        this.ttlNanos = properties.getCountCache().getTtl().toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public long get(MemberSearchCondition condition, LongSupplier counter) {
+        Key key = Key.of(condition);
+        long now = System.nanoTime();
+        Entry entry;
+        lock.lock();
+        try {
+            entry = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+        if (entry != null && now - entry.countedAt() < ttlNanos) {
+            return entry.total();
+        }
+
+        // COUNT 쿼리는 락 밖에서 수행한다.
+        long total = counter.getAsLong();
+        lock.lock();
+        try {
+            entries.put(key, new Entry(total, now));
+        } finally {
+            lock.unlock();
+        }
+        return total;
+    }
+
+    /**
+     * 검색은 대소문자를 구분하지 않으므로 대소문자만 다른 조건은 같은 키로 모은다.
+     */
+    record Key(String email, String nickname, Role role, Boolean isDeleted,
+               LocalDateTime startDate, LocalDateTime endDate) {
+
+        static Key of(MemberSearchCondition condition) {
+            return new Key(
+                    normalize(condition.getEmail()),
+                    normalize(condition.getNickname()),
+                    condition.getRole(),
+                    condition.getIsDeleted(),
+                    condition.getStartDate(),
+                    condition.getEndDate()
+            );
+        }
+
+        private static String normalize(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            return value.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private record Entry(long total, long countedAt) {
+    }
+}
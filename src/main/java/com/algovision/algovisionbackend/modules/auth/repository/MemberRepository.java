@@ -2,6 +2,9 @@ package com.algovision.algovisionbackend.modules.auth.repository;
 
 import com.algovision.algovisionbackend.modules.auth.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -11,4 +14,15 @@ public interface MemberRepository extends JpaRepository<Member, Long>, CustomMem
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
+
+    /**
+     * 저장된 해시가 currentHash 그대로일 때만 newHash로 바꾼다. 그 사이 비밀번호가 바뀌었으면 아무것도 하지 않는다.
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update Member m set m.passwordHash = :newHash where m.id = :id and m.passwordHash = :currentHash")
+    int updatePasswordHash(@Param("id") Long id,
+                           @Param("currentHash") String currentHash,
+                           @Param("newHash") String newHash);
 }
\ No newline at end of file
@@ -2,16 +2,26 @@ package com.algovision.algovisionbackend.modules.auth.repository.impl;
 
 import com.algovision.algovisionbackend.modules.auth.domain.QMember;
 import com.algovision.algovisionbackend.modules.auth.domain.Role;
+import com.algovision.algovisionbackend.modules.auth.dto.MemberCursor;
+import com.algovision.algovisionbackend.modules.auth.dto.MemberCursorPage;
 import com.algovision.algovisionbackend.modules.auth.dto.MemberResponse;
 import com.algovision.algovisionbackend.modules.auth.dto.MemberSearchCondition;
 import com.algovision.algovisionbackend.modules.auth.repository.CustomMemberRepository;
+import com.algovision.algovisionbackend.modules.auth.repository.MemberCountCache;
+import com.algovision.algovisionbackend.modules.auth.search.MemberSearchIndex;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.FlushModeType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,8 +30,11 @@ import java.util.Optional;
 @Repository
 @RequiredArgsConstructor
 public class MemberRepositoryImpl implements CustomMemberRepository {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     private final JPAQueryFactory queryFactory;
+    private final ObjectProvider<MemberCountCache> countCache;
+    private final ObjectProvider<MemberSearchIndex> searchIndex;
 
     @Override
     public Optional<MemberResponse> findByEmail(String email) {
@@ -63,11 +76,103 @@ public class MemberRepositoryImpl implements CustomMemberRepository {
         return Optional.ofNullable(result);
     }
 
+    @Override
+    public List<MemberResponse> findDuplicates(String email, String nickname) {
+        QMember member = QMember.member;
+
+        // 가입 INSERT가 실패한 직후에도 호출되므로, 실패한 엔티티를 다시 flush하지 않도록 자동 flush를 끈다.
+        return selectMemberResponse()
+                .where(member.email.eq(email).or(member.nickname.eq(nickname)))
+                .limit(2)
+                .setFlushMode(FlushModeType.COMMIT)
+                .fetch();
+    }
+
     @Override
     public Page<MemberResponse> search(MemberSearchCondition condition, Pageable pageable) {
         QMember member = QMember.member;
 
-        List<MemberResponse> results = queryFactory
+        List<MemberResponse> results = selectMemberResponse()
+                .where(searchConditions(condition))
+                .orderBy(member.createdAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 첫 페이지가 덜 찼거나 마지막 페이지면 전체 건수를 계산할 수 있으므로 COUNT를 생략한다.
+        return PageableExecutionUtils.getPage(results, pageable, () -> count(condition));
+    }
+
+    @Override
+    public Slice<MemberResponse> searchSlice(MemberSearchCondition condition, Pageable pageable) {
+        QMember member = QMember.member;
+
+        List<MemberResponse> results = selectMemberResponse()
+                .where(searchConditions(condition))
+                .orderBy(member.createdAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = results.size() > pageable.getPageSize();
+        List<MemberResponse> content = hasNext ? results.subList(0, pageable.getPageSize()) : results;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public MemberCursorPage searchByCursor(MemberSearchCondition condition, String cursor, int size) {
+        QMember member = QMember.member;
+        // size가 0 이하이면 content.get(size - 1)에서, 너무 크면 조회량에서 문제가 되므로 범위 안으로 맞춘다.
+        size = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        List<MemberResponse> results = selectMemberResponse()
+                // createdAt이 비어 있는 행은 커서로 표현할 수 없으므로 키셋 순회에서 제외한다.
+                .where(member.createdAt.isNotNull())
+                .where(afterCursor(cursor))
+                .where(searchConditions(condition))
+                .orderBy(member.createdAt.desc(), member.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = results.size() > size;
+        List<MemberResponse> content = hasNext ? results.subList(0, size) : results;
+        String nextCursor = hasNext ? MemberCursor.of(content.get(size - 1)).encode() : null;
+
+        return new MemberCursorPage(content, nextCursor, hasNext);
+    }
+
+    @Override
+    public List<MemberResponse> findBatchAfterId(long afterId, int size) {
+        QMember member = QMember.member;
+
+        return selectMemberResponse()
+                .where(member.id.gt(afterId))
+                .orderBy(member.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    private long count(MemberSearchCondition condition) {
+        MemberCountCache cache = countCache.getIfAvailable();
+        return cache != null ? cache.get(condition, () -> fetchCount(condition)) : fetchCount(condition);
+    }
+
+    private long fetchCount(MemberSearchCondition condition) {
+        QMember member = QMember.member;
+
+        Long total = queryFactory
+                .select(member.count())
+                .from(member)
+                .where(searchConditions(condition))
+                .fetchOne();
+
+        return total == null ? 0 : total;
+    }
+
+    private JPAQuery<MemberResponse> selectMemberResponse() {
+        QMember member = QMember.member;
+
+        return queryFactory
                 .select(Projections.constructor(
                         MemberResponse.class,
                         member.id,
@@ -77,30 +182,45 @@ public class MemberRepositoryImpl implements CustomMemberRepository {
                         member.createdAt,
                         member.updatedAt
                 ))
-                .from(member)
-                .where(
-                        emailContains(condition.getEmail()),
-                        nicknameContains(condition.getNickname()),
-                        eqRole(condition.getRole()),
-                        eqDeleted(condition.getIsDeleted())
-                )
-                .orderBy(member.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .from(member);
+    }
 
-        Long total = queryFactory
-                .select(member.count())
-                .from(member)
-                .where(
-                        emailContains(condition.getEmail()),
-                        nicknameContains(condition.getNickname()),
-                        eqRole(condition.getRole()),
-                        eqDeleted(condition.getIsDeleted())
-                )
-                .fetchOne();
+    private Predicate[] searchConditions(MemberSearchCondition condition) {
+        return new Predicate[]{
+                indexedCandidates(condition),
+                emailContains(condition.getEmail()),
+                nicknameContains(condition.getNickname()),
+                eqRole(condition.getRole()),
+                eqDeleted(condition.getIsDeleted())
+        };
+    }
+
+    /**
+     * (createdAt, id) &lt; (cursor.createdAt, cursor.id). idx_member_created_at_id 범위 탐색으로 처리된다.
+     */
+    private BooleanExpression afterCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        MemberCursor decoded = MemberCursor.decode(cursor);
+        QMember member = QMember.member;
+        return member.createdAt.lt(decoded.createdAt())
+                .or(member.createdAt.eq(decoded.createdAt()).and(member.id.lt(decoded.id())));
+    }
 
-        return new PageImpl<>(results, pageable, total == null ? 0 : total);
+    /**
+     * trigram 색인으로 후보 ID를 좁힌다. 후보에는 오탐이 있으므로 LIKE 조건은 그대로 함께 적용한다.
+     */
+    private BooleanExpression indexedCandidates(MemberSearchCondition condition) {
+        MemberSearchIndex index = searchIndex.getIfAvailable();
+        if (index == null) {
+            return null;
+        }
+
+        return index.findCandidates(condition.getEmail(), condition.getNickname())
+                .map(ids -> QMember.member.id.in(ids))
+                .orElse(null);
     }
 
     private BooleanExpression emailContains(String email) {
@@ -0,0 +1,307 @@
+package com.algovision.algovisionbackend.modules.auth.search;
+
+import com.algovision.algovisionbackend.common.util.CollationFolding;
+import com.algovision.algovisionbackend.modules.auth.config.MemberSearchProperties;
+import com.algovision.algovisionbackend.modules.auth.sync.MemberChangeHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이메일/닉네임 부분 문자열 검색용 노드 로컬 trigram 역색인.
+ * <p>
+ * 검색어의 trigram을 모두 포함하는 회원 ID를 후보로 돌려주며, 후보에는 오탐이 있을 수 있으므로
+ * 호출하는 쪽은 기존 LIKE 조건을 함께 적용해야 한다.
+ * <p>
+ * 값과 검색어는 {@link CollationFolding}으로 접어 DB 콜레이션처럼 대소문자와 악센트를 무시한다.
+ * 접은 뒤에도 ASCII/한글 밖의 문자가 남은 회원은 trigram과 관계없이 항상 후보에 넣어 LIKE가 판단하게 한다.
+ * <p>
+ * 적재가 끝나기 전({@link #markReady()} 이전), 검색어가 3자 미만이거나 ASCII/한글 밖의 문자를 포함하거나
+ * 후보가 maxCandidates를 넘으면 {@link Optional#empty()}를 돌려 DB 검색으로 넘긴다.
+ * 흔한 trigram만으로 이루어진 검색어는 이 마지막 경우에 해당하므로, 그때의 지연은 색인이 없을 때와 같다.
+ */
+@Component
+public class MemberSearchIndex implements MemberChangeHandler {
+    static final int GRAM_LENGTH = 3;
+
+    private final boolean enabled;
+    private final int maxCandidates;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> emailGrams = new HashMap<>();
+    private final Map<String, Postings> nicknameGrams = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    /** 접은 값에 ASCII/한글 밖의 문자가 남아 trigram으로 거를 수 없는 회원 */
+    private final Postings unmodeled = new Postings();
+    private volatile boolean ready;
+
+    public MemberSearchIndex(MemberSearchProperties properties) {
+        this.enabled = properties.getNgramIndex().isEnabled();
+        this.maxCandidates = properties.getNgramIndex().getMaxCandidates();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void upsert(Long id, String email, String nickname) {
+        Document document = new Document(CollationFolding.fold(email), CollationFolding.fold(nickname));
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(id, document);
+            if (previous == null || !previous.email().equals(document.email())) {
+                if (previous != null) {
+                    unindex(emailGrams, previous.email(), id);
+                }
+                index(emailGrams, document.email(), id);
+            }
+            if (previous == null || !previous.nickname().equals(document.nickname())) {
+                if (previous != null) {
+                    unindex(nicknameGrams, previous.nickname(), id);
+                }
+                index(nicknameGrams, document.nickname(), id);
+            }
+            if (document.isModeled()) {
+                unmodeled.remove(id);
+            } else {
+                unmodeled.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+            if (previous != null) {
+                unindex(emailGrams, previous.email(), id);
+                unindex(nicknameGrams, previous.nickname(), id);
+            }
+            unmodeled.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void reset() {
+        markStale();
+        clear();
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            emailGrams.clear();
+            nicknameGrams.clear();
+            unmodeled.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 두 검색어를 모두 만족할 수 있는 회원 ID 후보. 색인으로 좁힐 수 없으면 {@link Optional#empty()}.
+     */
+    public Optional<List<Long>> findCandidates(String emailQuery, String nicknameQuery) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        String emailFolded = CollationFolding.fold(emailQuery);
+        String nicknameFolded = CollationFolding.fold(nicknameQuery);
+        if (!CollationFolding.isModeled(emailFolded) || !CollationFolding.isModeled(nicknameFolded)) {
+            // 콜레이션이 무엇과 같게 보는지 알 수 없는 문자는 DB에 맡긴다.
+            return Optional.empty();
+        }
+        Set<String> emailQueryGrams = grams(emailFolded);
+        Set<String> nicknameQueryGrams = grams(nicknameFolded);
+        if (emailQueryGrams.isEmpty() && nicknameQueryGrams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(emailQueryGrams.size() + nicknameQueryGrams.size());
+            if (!collect(emailGrams, emailQueryGrams, lists) || !collect(nicknameGrams, nicknameQueryGrams, lists)) {
+                return Optional.of(unmodeled.toList());
+            }
+            lists.sort(Comparator.comparingInt(Postings::size));
+
+            // 결과는 가장 짧은 목록의 부분집합이다. 그마저 길면 흔한 검색어이므로 DB 검색으로 넘긴다.
+            Postings smallest = lists.get(0);
+            if (smallest.size() + unmodeled.size() > maxCandidates) {
+                return Optional.empty();
+            }
+
+            List<Long> candidates = new ArrayList<>(smallest.size() + unmodeled.size());
+            for (int i = 0; i < smallest.size(); i++) {
+                long id = smallest.get(i);
+                if (containedInAll(lists, id)) {
+                    candidates.add(id);
+                }
+            }
+            for (int i = 0; i < unmodeled.size(); i++) {
+                candidates.add(unmodeled.get(i));
+            }
+            return Optional.of(candidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void markReady() {
+        this.ready = true;
+    }
+
+    @Override
+    public void markStale() {
+        this.ready = false;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    static Set<String> grams(String value) {
+        if (value.length() < GRAM_LENGTH) {
+            return Set.of();
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static boolean collect(Map<String, Postings> postings, Set<String> grams, List<Postings> target) {
+        for (String gram : grams) {
+            Postings list = postings.get(gram);
+            if (list == null) {
+                return false;
+            }
+            target.add(list);
+        }
+        return true;
+    }
+
+    private static boolean containedInAll(List<Postings> lists, long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void index(Map<String, Postings> postings, String value, long id) {
+        for (String gram : grams(value)) {
+            postings.computeIfAbsent(gram, key -> new Postings()).add(id);
+        }
+    }
+
+    private static void unindex(Map<String, Postings> postings, String value, long id) {
+        for (String gram : grams(value)) {
+            Postings list = postings.get(gram);
+            if (list != null && list.remove(id) && list.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private record Document(String email, String nickname) {
+        boolean isModeled() {
+            return CollationFolding.isModeled(email) && CollationFolding.isModeled(nickname);
+        }
+    }
+
+    /**
+     * 정렬된 회원 ID 목록. ID는 증가하며 발급되므로 대부분 뒤에 덧붙인다.
+     */
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size == 0 || ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        long get(int index) {
+            return ids[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        List<Long> toList() {
+            List<Long> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(ids[i]);
+            }
+            return list;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1));
+            }
+        }
+    }
+}
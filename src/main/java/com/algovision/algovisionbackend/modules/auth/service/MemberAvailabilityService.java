@@ -0,0 +1,76 @@
+package com.algovision.algovisionbackend.modules.auth.service;
+
+import com.algovision.algovisionbackend.global.ratelimit.LocalRateLimiter;
+import com.algovision.algovisionbackend.modules.auth.availability.MemberAvailabilityFilter;
+import com.algovision.algovisionbackend.modules.auth.config.MemberAvailabilityProperties;
+import com.algovision.algovisionbackend.modules.auth.dto.AvailabilityResponse;
+import com.algovision.algovisionbackend.modules.auth.exception.TooManyAvailabilityChecksException;
+import com.algovision.algovisionbackend.modules.auth.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+/**
+ * 가입 화면의 이메일/닉네임 중복 확인. 입력할 때마다 호출되므로 Bloom filter가 음성이면 DB를 조회하지 않는다.
+ * 결과는 안내용이며, 실제 중복은 가입 시 유니크 인덱스로 걸러진다.
+ */
+@Service
+public class MemberAvailabilityService {
+
+    private final MemberRepository memberRepository;
+    private final MemberAvailabilityFilter filter;
+    private final LocalRateLimiter rateLimiter;
+
+    private final Counter emailFilterHits;
+    private final Counter emailDatabaseChecks;
+    private final Counter nicknameFilterHits;
+    private final Counter nicknameDatabaseChecks;
+
+    public MemberAvailabilityService(MemberRepository memberRepository,
+                                     MemberAvailabilityFilter filter,
+                                     MemberAvailabilityProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.filter = filter;
+
+        MemberAvailabilityProperties.RateLimit rateLimit = properties.getRateLimit();
+        this.rateLimiter = new LocalRateLimiter(rateLimit.getLimit(), rateLimit.getWindow(), rateLimit.getMaxClients());
+
+        this.emailFilterHits = meterRegistry.counter("member.availability.check", "field", "email", "source", "filter");
+        this.emailDatabaseChecks = meterRegistry.counter("member.availability.check", "field", "email", "source", "db");
+        this.nicknameFilterHits = meterRegistry.counter("member.availability.check", "field", "nickname", "source", "filter");
+        this.nicknameDatabaseChecks = meterRegistry.counter("member.availability.check", "field", "nickname", "source", "db");
+    }
+
+    /**
+     * @param clientKey 요청 제한 키 (클라이언트 IP)
+     */
+    public AvailabilityResponse checkEmail(String clientKey, String email) {
+        acquire(clientKey);
+        if (!filter.mightBeTakenEmail(email)) {
+            emailFilterHits.increment();
+            return new AvailabilityResponse(true);
+        }
+        emailDatabaseChecks.increment();
+        return new AvailabilityResponse(!memberRepository.existsByEmail(email));
+    }
+
+    /**
+     * @param clientKey 요청 제한 키 (클라이언트 IP)
+     */
+    public AvailabilityResponse checkNickname(String clientKey, String nickname) {
+        acquire(clientKey);
+        if (!filter.mightBeTakenNickname(nickname)) {
+            nicknameFilterHits.increment();
+            return new AvailabilityResponse(true);
+        }
+        nicknameDatabaseChecks.increment();
+        return new AvailabilityResponse(!memberRepository.existsByNickname(nickname));
+    }
+
+    private void acquire(String clientKey) {
+        if (!rateLimiter.tryAcquire(clientKey)) {
+            throw TooManyAvailabilityChecksException.INSTANCE;
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.algovision.algovisionbackend.modules.auth.service;
 
+import com.algovision.algovisionbackend.global.security.jwt.dto.VerifiedToken;
 import com.algovision.algovisionbackend.modules.auth.dto.*;
 
 public interface MemberService {
     MemberResponse signup(SignUpRequest request);
-    AuthResponse login(LoginRequest request);
-    void withdraw(String accessToken, Long memberId);
+    /**
+     * @param clientIp 요청 제한 키 (클라이언트 IP)
+     */
+    AuthResponse login(LoginRequest request, String device, String clientIp);
+    AuthResponse refresh(RefreshTokenRequest request);
+    void withdraw(VerifiedToken accessToken);
     MemberResponse changePassword(Long memberId, ChangePasswordRequest request);
     MemberResponse changeNickname(Long memberId, UpdateNicknameRequest request);
     MemberResponse getMember(Long memberId);
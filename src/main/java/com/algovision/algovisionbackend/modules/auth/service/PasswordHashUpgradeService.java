@@ -0,0 +1,25 @@
+package com.algovision.algovisionbackend.modules.auth.service;
+
+import com.algovision.algovisionbackend.modules.auth.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 로그인 시 비밀번호 해시 갱신. 새 해시는 호출하는 쪽이 트랜잭션 밖에서 만들어 넘기므로,
+ * 이 트랜잭션은 조건부 UPDATE 동안만 커넥션을 쓴다.
+ * 로그인은 트랜잭션 없이 실행되므로 저장에 실패해도 로그인에는 영향이 없다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PasswordHashUpgradeService {
+    private final MemberRepository memberRepository;
+
+    /**
+     * @return 저장된 해시가 currentHash 그대로여서 갱신했으면 true
+     */
+    @Transactional
+    public boolean upgrade(Long memberId, String currentHash, String newHash) {
+        return memberRepository.updatePasswordHash(memberId, currentHash, newHash) > 0;
+    }
+}
@@ -1,25 +1,44 @@
 package com.algovision.algovisionbackend.modules.auth.service.impl;
 
+import com.algovision.algovisionbackend.global.ratelimit.RateLimiter;
 import com.algovision.algovisionbackend.global.security.jwt.JwtProperties;
 import com.algovision.algovisionbackend.global.security.jwt.JwtProvider;
+import com.algovision.algovisionbackend.global.security.jwt.dto.VerifiedToken;
 import com.algovision.algovisionbackend.global.security.jwt.service.AuthTokenService;
 import com.algovision.algovisionbackend.global.security.jwt.service.JwtRedisService;
+import com.algovision.algovisionbackend.global.security.password.PasswordHashingBusyException;
+import com.algovision.algovisionbackend.global.security.service.MemberDetailsCache;
+import com.algovision.algovisionbackend.modules.auth.config.MemberSignupProperties;
 import com.algovision.algovisionbackend.modules.auth.domain.Member;
 import com.algovision.algovisionbackend.modules.auth.dto.*;
 import com.algovision.algovisionbackend.modules.auth.exception.*;
 import com.algovision.algovisionbackend.modules.auth.mapper.MemberMapper;
 import com.algovision.algovisionbackend.modules.auth.repository.MemberRepository;
 import com.algovision.algovisionbackend.modules.auth.service.MemberService;
+import com.algovision.algovisionbackend.modules.auth.service.PasswordHashUpgradeService;
+import com.algovision.algovisionbackend.modules.auth.sync.MemberChangeSync;
 import com.algovision.algovisionbackend.modules.email.exception.EmailNotVerifiedException;
 import com.algovision.algovisionbackend.modules.email.service.EmailService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberServiceImpl implements MemberService {
+    private static final String LOGIN_RATE_LIMIT_POLICY = "login";
+    private static final String LOGIN_IP_RATE_LIMIT_POLICY = "login-ip";
+
     private final MemberRepository memberRepository;
     private final MemberMapper memberMapper;
 
@@ -28,6 +47,11 @@ public class MemberServiceImpl implements MemberService {
     private final AuthTokenService authTokenService;
     private final JwtProperties jwtProperties;
     private final JwtProvider jwtProvider;
+    private final MemberDetailsCache memberDetailsCache;
+    private final MemberChangeSync memberChangeSync;
+    private final MemberSignupProperties signupProperties;
+    private final RateLimiter rateLimiter;
+    private final PasswordHashUpgradeService passwordHashUpgradeService;
 
     private final EmailService emailService;
 
@@ -37,62 +61,125 @@ public class MemberServiceImpl implements MemberService {
         if (!emailService.isEmailVerified(request.email())) {
             throw new EmailNotVerifiedException(request.email());
         }
-        if (memberRepository.existsByEmail(request.email())) {
-            throw new DuplicateEmailException(request.email());
-        }
-        if (memberRepository.existsByNickname(request.nickname())) {
-            throw new DuplicateNicknameException(request.nickname());
+        if (signupProperties.isPrecheckDuplicates()) {
+            checkDuplicates(request);
         }
 
         Member member = Member.createWithEncodedPassword(request, passwordEncoder);
-        Member saved = memberRepository.save(member);
+        Member saved;
+        try {
+            // 중복 검사는 유니크 인덱스에 맡긴다. 확인 후 INSERT 사이의 경쟁도 여기서 걸러진다.
+            saved = memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateException(e, request);
+        }
+        memberChangeSync.memberChanged(saved);
 
         return memberMapper.toResponse(saved);
     }
 
+    /**
+     * 트랜잭션을 걸지 않는다. 회원 조회는 조회 쿼리 동안만 커넥션을 쓰고,
+     * BCrypt 검증과 해시 갱신용 encode는 커넥션을 잡지 않은 채 해시 레인에서 기다린다.
+     */
     @Override
-    @Transactional(readOnly = true)
-    public AuthResponse login(LoginRequest request) {
+    public AuthResponse login(LoginRequest request, String device, String clientIp) {
+        // IP 하나가 여러 계정을 시도하는 것은 IP 한도로, 계정 하나에 대한 반복 시도는 (IP, 이메일) 한도로 막는다.
+        // 이메일만으로 제한하면 다른 곳에서 틀린 시도를 반복해 본인의 로그인까지 막을 수 있다.
+        String accountKey = clientIp + "|" + request.email().toLowerCase(Locale.ROOT);
+        if (!rateLimiter.tryAcquire(LOGIN_IP_RATE_LIMIT_POLICY, clientIp)
+                || !rateLimiter.tryAcquire(LOGIN_RATE_LIMIT_POLICY, accountKey)) {
+            throw TooManyLoginAttemptsException.INSTANCE;
+        }
+
         Member member = memberRepository.findMemberByEmail(request.email())
-                .orElseThrow(InvalidLoginException::new);
+                .orElseThrow(() -> InvalidLoginException.INSTANCE);
 
         if (!passwordEncoder.matches(request.password(), member.getPasswordHash())) {
-            throw new InvalidLoginException();
+            throw InvalidLoginException.INSTANCE;
         }
+        upgradePasswordHash(member, request.password());
 
-        String accessToken = jwtProvider.generateAccessToken(member.getId());
-        String refreshToken = jwtProvider.generateRefreshToken();
+        String sessionId = UUID.randomUUID().toString();
+        String accessToken = jwtProvider.generateAccessToken(member, sessionId);
+        String refreshToken = jwtProvider.generateRefreshToken(member.getId(), sessionId);
 
-        jwtRedisService.saveRefreshToken(
+        long evicted = jwtRedisService.createSession(
                 member.getId(),
+                sessionId,
                 refreshToken,
+                device,
                 jwtProperties.getRefreshExpiration()
         );
+        if (evicted > 0) {
+            log.info("세션 한도 초과로 오래된 세션 종료: memberId={}, evicted={}", member.getId(), evicted);
+        }
 
-        return new AuthResponse(memberMapper.toResponse(member), accessToken);
+        return new AuthResponse(memberMapper.toResponse(member), accessToken, refreshToken);
+    }
+
+    /**
+     * 비밀번호 검증 없이 서명 확인, PK 조회, Redis 스크립트 한 번으로 토큰을 재발급한다.
+     * 쓰인 refresh 토큰은 즉시 교체되며, 교체된 토큰이 다시 오면 해당 기기 세션을 끊는다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        VerifiedToken presented = jwtProvider.tryVerifyRefreshToken(request.refreshToken())
+                .orElseThrow(() -> InvalidRefreshTokenException.INSTANCE);
+
+        Member member = memberRepository.findById(presented.memberId())
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(() -> InvalidRefreshTokenException.INSTANCE);
+
+        String sessionId = presented.sessionId();
+        String refreshToken = jwtProvider.generateRefreshToken(member.getId(), sessionId);
+        JwtRedisService.RefreshRotation rotation = jwtRedisService.rotateRefreshToken(
+                member.getId(),
+                sessionId,
+                presented.token(),
+                refreshToken,
+                jwtProperties.getRefreshExpiration()
+        );
+
+        switch (rotation) {
+            case ROTATED -> { }
+            case REUSED -> {
+                log.warn("refresh 토큰 재사용 감지, 세션 폐기: memberId={}, sessionId={}, jti={}",
+                        member.getId(), sessionId, presented.jti());
+                throw InvalidRefreshTokenException.INSTANCE;
+            }
+            case NOT_FOUND -> throw InvalidRefreshTokenException.INSTANCE;
+        }
+
+        String accessToken = jwtProvider.generateAccessToken(member, sessionId);
+        return new AuthResponse(memberMapper.toResponse(member), accessToken, refreshToken);
     }
 
     @Override
     @Transactional
-    public void withdraw(String accessToken, Long memberId) {
-        authTokenService.logout(accessToken, memberId);
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(MemberNotFoundException::new);
+    public void withdraw(VerifiedToken accessToken) {
+        authTokenService.logoutAllDevices(accessToken);
+        Member member = memberRepository.findById(accessToken.memberId())
+                .orElseThrow(() -> MemberNotFoundException.INSTANCE);
         member.softDelete();
+        memberDetailsCache.evict(accessToken.memberId());
+        memberChangeSync.memberChanged(member);
     }
 
     @Override
     @Transactional
     public MemberResponse changePassword(Long memberId, ChangePasswordRequest request) {
         Member member = memberRepository.findById(memberId)
-                .orElseThrow(MemberNotFoundException::new);
+                .orElseThrow(() -> MemberNotFoundException.INSTANCE);
 
         if (!passwordEncoder.matches(request.currentPassword(), member.getPasswordHash())) {
-            throw new PasswordMismatchException();
+            throw PasswordMismatchException.INSTANCE;
         }
 
-        if (passwordEncoder.matches(request.newPassword(), member.getPasswordHash())) {
-            throw new SamePasswordException();
+        // 현재 비밀번호가 해시와 일치했으므로 새 비밀번호와 비교하는 데 해시를 다시 계산할 필요가 없다.
+        if (request.newPassword().equals(request.currentPassword())) {
+            throw SamePasswordException.INSTANCE;
         }
 
         member.changePassword(passwordEncoder.encode(request.newPassword()));
@@ -108,9 +195,11 @@ public class MemberServiceImpl implements MemberService {
         }
 
         Member member = memberRepository.findById(memberId)
-                .orElseThrow(MemberNotFoundException::new);
+                .orElseThrow(() -> MemberNotFoundException.INSTANCE);
 
         member.updateNickname(request.nickname());
+        memberDetailsCache.evict(memberId);
+        memberChangeSync.memberChanged(member);
         return memberMapper.toResponse(member);
     }
 
@@ -118,8 +207,69 @@ public class MemberServiceImpl implements MemberService {
     @Transactional(readOnly = true)
     public MemberResponse getMember(Long memberId) {
         Member member = memberRepository.findById(memberId)
-                .orElseThrow(MemberNotFoundException::new);
+                .orElseThrow(() -> MemberNotFoundException.INSTANCE);
 
         return memberMapper.toResponse(member);
     }
+
+    /**
+     * 저장된 해시의 cost나 알고리즘이 현재 설정과 다르면 방금 검증한 비밀번호로 다시 해시해 저장한다.
+     * 트랜잭션 밖에서 해시한 뒤 UPDATE 한 번만 짧은 트랜잭션으로 실행하며,
+     * 해시 레인이 바쁘거나 저장에 실패하면 이번 로그인에서는 건너뛴다.
+     */
+    private void upgradePasswordHash(Member member, String rawPassword) {
+        String currentHash = member.getPasswordHash();
+        if (!passwordEncoder.upgradeEncoding(currentHash)) {
+            return;
+        }
+        try {
+            passwordHashUpgradeService.upgrade(member.getId(), currentHash, passwordEncoder.encode(rawPassword));
+        } catch (PasswordHashingBusyException e) {
+            log.debug("비밀번호 해시 갱신 보류: memberId={}", member.getId());
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 해시 갱신 실패: memberId={}", member.getId(), e);
+        }
+    }
+
+    private void checkDuplicates(SignUpRequest request) {
+        findDuplicate(request).ifPresent(duplicate -> {
+            throw duplicate;
+        });
+    }
+
+    private Optional<RuntimeException> findDuplicate(SignUpRequest request) {
+        List<MemberResponse> duplicates = memberRepository.findDuplicates(request.email(), request.nickname());
+        if (duplicates.isEmpty()) {
+            return Optional.empty();
+        }
+        if (duplicates.stream().anyMatch(existing -> existing.email().equalsIgnoreCase(request.email()))) {
+            return Optional.of(new DuplicateEmailException(request.email()));
+        }
+        return Optional.of(new DuplicateNicknameException(request.nickname()));
+    }
+
+    private RuntimeException duplicateException(DataIntegrityViolationException e, SignUpRequest request) {
+        String constraint = violatedConstraint(e).toLowerCase(Locale.ROOT);
+        if (constraint.contains(Member.EMAIL_UNIQUE_INDEX)) {
+            return new DuplicateEmailException(request.email());
+        }
+        if (constraint.contains(Member.NICKNAME_UNIQUE_INDEX)) {
+            return new DuplicateNicknameException(request.nickname());
+        }
+        // 인덱스 이름이 다른 DB(마이그레이션 전 등)라면 어떤 값이 겹쳤는지 다시 조회해 판단한다.
+        return findDuplicate(request).orElse(e);
+    }
+
+    /**
+     * Hibernate가 추출한 제약 조건 이름. 추출하지 못한 드라이버라면 원본 메시지에서 찾는다.
+     */
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName();
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message == null ? "" : message;
+    }
 }
@@ -0,0 +1,23 @@
+package com.algovision.algovisionbackend.modules.auth.sync;
+
+/**
+ * 회원 테이블의 이메일/닉네임을 노드 로컬에 들고 있는 구조. {@link MemberChangeSync}가 적재와 변경 반영을 맡는다.
+ * 적재가 끝나기 전({@link #markReady()} 이전)에는 스스로 판단하지 않고 DB로 넘겨야 한다.
+ */
+public interface MemberChangeHandler {
+
+    boolean isEnabled();
+
+    void upsert(Long id, String email, String nickname);
+
+    void remove(Long id);
+
+    /**
+     * 전체 재적재 직전. 기존 내용을 버리고 적재가 끝날 때까지 사용하지 않는다.
+     */
+    void reset();
+
+    void markReady();
+
+    void markStale();
+}
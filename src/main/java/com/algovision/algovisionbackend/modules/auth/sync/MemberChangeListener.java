@@ -0,0 +1,50 @@
+package com.algovision.algovisionbackend.modules.auth.sync;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드의 회원 변경 이벤트를 {@link MemberChangeSync}로 넘긴다.
+ * 구독이 성립하면 회원 테이블을 적재한 뒤 로컬 색인을 활성화하고, 구독이 끊기면 DB 조회로 되돌린다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MemberChangeListener implements MessageListener, SubscriptionListener {
+
+    private final MemberChangeSync changeSync;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            changeSync.reload(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 회원 변경 이벤트 무시");
+        }
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        Thread.ofVirtual().name("member-change-warmup").start(this::warmUp);
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        changeSync.markStale();
+        log.warn("회원 변경 이벤트 구독 해제, DB 조회로 동작합니다.");
+    }
+
+    private void warmUp() {
+        try {
+            changeSync.warmUp();
+        } catch (Exception e) {
+            changeSync.markStale();
+            log.error("회원 로컬 색인 적재 실패, DB 조회로 동작합니다.", e);
+        }
+    }
+}
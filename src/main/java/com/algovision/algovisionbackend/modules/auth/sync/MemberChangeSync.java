@@ -0,0 +1,131 @@
+package com.algovision.algovisionbackend.modules.auth.sync;
+
+import com.algovision.algovisionbackend.modules.auth.domain.Member;
+import com.algovision.algovisionbackend.modules.auth.dto.MemberResponse;
+import com.algovision.algovisionbackend.modules.auth.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 로컬 {@link MemberChangeHandler}들을 회원 테이블과 맞춘다.
+ * 이 노드의 변경은 커밋 직후 바로 반영하고, Redis 채널로 다른 노드에 회원 ID를 알린다.
+ * 다른 노드는 DB에서 해당 회원을 다시 읽어 반영한다.
+ */
+@Slf4j
+@Component
+public class MemberChangeSync {
+    public static final String CHANGE_CHANNEL = "member:change-events";
+    private static final int WARM_UP_BATCH_SIZE = 1_000;
+
+    private final List<MemberChangeHandler> handlers;
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private final Set<Long> changedDuringWarmUp = ConcurrentHashMap.newKeySet();
+    private volatile boolean warmingUp;
+
+    public MemberChangeSync(List<MemberChangeHandler> handlers,
+                            MemberRepository memberRepository,
+                            StringRedisTemplate redisTemplate) {
+        this.handlers = handlers.stream().filter(MemberChangeHandler::isEnabled).toList();
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+    }
+
+    public boolean isEnabled() {
+        return !handlers.isEmpty();
+    }
+
+    /**
+     * 가입, 닉네임 변경, 탈퇴 후 호출한다. 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void memberChanged(Member member) {
+        if (handlers.isEmpty()) {
+            return;
+        }
+
+        Long id = member.getId();
+        String email = member.getEmail();
+        String nickname = member.getNickname();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(id, email, nickname);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(id, email, nickname);
+            }
+        });
+    }
+
+    /**
+     * 다른 노드의 변경 이벤트. 적재 중이면 적재가 끝난 뒤 한 번 더 반영한다.
+     */
+    public void reload(Long id) {
+        if (warmingUp) {
+            changedDuringWarmUp.add(id);
+        }
+        memberRepository.findById(id).ifPresentOrElse(
+                member -> handlers.forEach(h -> h.upsert(member.getId(), member.getEmail(), member.getNickname())),
+                () -> handlers.forEach(h -> h.remove(id))
+        );
+    }
+
+    /**
+     * 모든 핸들러를 비우고 회원 테이블 전체를 ID 순으로 다시 적재한다.
+     */
+    public void warmUp() {
+        warmingUp = true;
+        handlers.forEach(MemberChangeHandler::reset);
+
+        long afterId = 0;
+        long loaded = 0;
+        List<MemberResponse> batch;
+        do {
+            batch = memberRepository.findBatchAfterId(afterId, WARM_UP_BATCH_SIZE);
+            for (MemberResponse member : batch) {
+                handlers.forEach(h -> h.upsert(member.id(), member.email(), member.nickname()));
+            }
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).id();
+                loaded += batch.size();
+            }
+        } while (batch.size() == WARM_UP_BATCH_SIZE);
+
+        // 적재 중 읽은 값이 그 사이의 변경을 덮어썼을 수 있으므로 다시 읽는다.
+        warmingUp = false;
+        handlers.forEach(MemberChangeHandler::markReady);
+        for (Long id : List.copyOf(changedDuringWarmUp)) {
+            changedDuringWarmUp.remove(id);
+            reload(id);
+        }
+        log.info("회원 로컬 색인 적재 완료: {}건", loaded);
+    }
+
+    public void markStale() {
+        handlers.forEach(MemberChangeHandler::markStale);
+    }
+
+    private void apply(Long id, String email, String nickname) {
+        if (warmingUp) {
+            changedDuringWarmUp.add(id);
+        }
+        handlers.forEach(h -> h.upsert(id, email, nickname));
+
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, String.valueOf(id));
+        } catch (DataAccessException e) {
+            log.warn("회원 변경 이벤트 발행 실패: memberId={}", id, e);
+        }
+    }
+}
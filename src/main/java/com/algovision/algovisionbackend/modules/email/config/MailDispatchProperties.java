@@ -0,0 +1,29 @@
+package com.algovision.algovisionbackend.modules.email.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mail.dispatch")
+@Getter
+@Setter
+public class MailDispatchProperties {
+    /** 대기열 최대 길이. 가득 차면 요청을 바로 거절한다. */
+    private int queueCapacity = 1000;
+    private int workers = 4;
+    /**
+     * true면 가상 스레드, false면 플랫폼 스레드로 워커를 띄운다.
+     * Jakarta Mail의 SMTP 전송은 synchronized 안에서 소켓 I/O를 하므로 JDK 21에서는 가상 스레드가 캐리어를 붙잡는다.
+     * 워커 수가 고정이라 가상 스레드의 이점도 없으니 기본은 플랫폼 스레드다.
+     */
+    private boolean virtualThreads = false;
+    private int maxAttempts = 3;
+    private Duration initialBackoff = Duration.ofMillis(500);
+    private double backoffMultiplier = 2.0;
+    /** 종료 시 남은 메일을 보내기 위해 기다리는 최대 시간. */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,24 @@
+package com.algovision.algovisionbackend.modules.email.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mail.pool")
+@Getter
+@Setter
+public class MailPoolProperties {
+    private boolean enabled = true;
+    /** 동시에 열 수 있는 SMTP 연결 수. 발송 워커 수와 맞춘다. */
+    private int maxConnections = 4;
+    /** 이 시간보다 오래 쉰 연결은 서버가 끊었을 가능성이 높으므로 재사용하지 않는다. */
+    private Duration maxIdle = Duration.ofSeconds(60);
+    /** 이 시간보다 오래 쉰 연결은 재사용 전에 NOOP으로 확인한다. */
+    private Duration validateAfter = Duration.ofSeconds(5);
+    private int maxMessagesPerConnection = 100;
+    private Duration borrowTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,48 @@
+package com.algovision.algovisionbackend.modules.email.config;
+
+import com.algovision.algovisionbackend.modules.email.transport.PooledJavaMailSender;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.Properties;
+
+/**
+ * SMTP 연결을 재사용하는 메일 발송기를 등록한다. 이 빈이 있으면 Spring Boot 기본 발송기는 만들어지지 않는다.
+ */
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+@ConditionalOnProperty(prefix = "mail.pool", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MailSenderConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.mail", name = "host")
+    public JavaMailSender javaMailSender(MailProperties mailProperties, MailPoolProperties poolProperties) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(
+                poolProperties.getMaxConnections(),
+                poolProperties.getMaxIdle(),
+                poolProperties.getValidateAfter(),
+                poolProperties.getMaxMessagesPerConnection(),
+                poolProperties.getBorrowTimeout()
+        );
+
+        sender.setHost(mailProperties.getHost());
+        if (mailProperties.getPort() != null) {
+            sender.setPort(mailProperties.getPort());
+        }
+        sender.setUsername(mailProperties.getUsername());
+        sender.setPassword(mailProperties.getPassword());
+        sender.setProtocol(mailProperties.getProtocol());
+        if (mailProperties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(mailProperties.getProperties());
+        sender.setJavaMailProperties(javaMailProperties);
+        return sender;
+    }
+}
@@ -1,9 +1,9 @@
 package com.algovision.algovisionbackend.modules.email.exception;
 
-import com.algovision.algovisionbackend.common.exception.BaseException;
+import com.algovision.algovisionbackend.common.exception.ClientException;
 import org.springframework.http.HttpStatus;
 
-public class EmailNotVerifiedException extends BaseException {
+public class EmailNotVerifiedException extends ClientException {
     private static final HttpStatus STATUS_CODE = HttpStatus.FORBIDDEN;
 
     public EmailNotVerifiedException(String email) {
@@ -1,12 +1,13 @@
 package com.algovision.algovisionbackend.modules.email.exception;
 
-import com.algovision.algovisionbackend.common.exception.BaseException;
+import com.algovision.algovisionbackend.common.exception.ClientException;
 import org.springframework.http.HttpStatus;
 
-public class InvalidVerificationCodeException extends BaseException {
+public class InvalidVerificationCodeException extends ClientException {
     private static final HttpStatus STATUS_CODE = HttpStatus.BAD_REQUEST;
+    public static final InvalidVerificationCodeException INSTANCE = new InvalidVerificationCodeException();
 
-    public InvalidVerificationCodeException() {
+    private InvalidVerificationCodeException() {
         super("인증 코드가 일치하지 않거나 만료되었습니다.", STATUS_CODE);
     }
 }
@@ -0,0 +1,13 @@
+package com.algovision.algovisionbackend.modules.email.exception;
+
+import com.algovision.algovisionbackend.common.exception.ClientException;
+import org.springframework.http.HttpStatus;
+
+public class TooManyVerificationAttemptsException extends ClientException {
+    private static final HttpStatus STATUS_CODE = HttpStatus.TOO_MANY_REQUESTS;
+    public static final TooManyVerificationAttemptsException INSTANCE = new TooManyVerificationAttemptsException();
+
+    private TooManyVerificationAttemptsException() {
+        super("인증 코드 확인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", STATUS_CODE);
+    }
+}
@@ -1,27 +1,29 @@
 package com.algovision.algovisionbackend.modules.email.service;
 
+import com.algovision.algovisionbackend.global.ratelimit.RateLimiter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
-
 @Service
 @RequiredArgsConstructor
 public class EmailRateLimiterService {
+    private static final String SEND_POLICY = "email-send";
+    private static final String VERIFY_POLICY = "email-verify";
 
-    private final StringRedisTemplate redisTemplate;
-    private static final long COOLDOWN_MINUTES = 1;
+    private final RateLimiter rateLimiter;
 
     public boolean canSend(String email) {
-        String key = String.format("email:cooldown:%s", email);
+        return rateLimiter.tryAcquire(SEND_POLICY, email);
+    }
 
-        Boolean exists = redisTemplate.hasKey(key);
-        if (Boolean.TRUE.equals(exists)) {
-            return false;
-        }
+    /**
+     * 발송 요청이 대기열에 들어가지 못했을 때 소비한 발송 횟수를 되돌린다.
+     */
+    public void refundSend(String email) {
+        rateLimiter.refund(SEND_POLICY, email);
+    }
 
-        redisTemplate.opsForValue().set(key, "cooldown", COOLDOWN_MINUTES, TimeUnit.MINUTES);
-        return true;
+    public boolean canVerify(String email) {
+        return rateLimiter.tryAcquire(VERIFY_POLICY, email);
     }
 }
@@ -1,17 +1,21 @@
 package com.algovision.algovisionbackend.modules.email.service;
 
 import com.algovision.algovisionbackend.modules.email.exception.InvalidVerificationCodeException;
-import com.algovision.algovisionbackend.modules.email.exception.MailSendFailedException;
+import com.algovision.algovisionbackend.modules.email.exception.MailQueueFullException;
 import com.algovision.algovisionbackend.modules.email.exception.TooManyEmailRequestsException;
+import com.algovision.algovisionbackend.modules.email.exception.TooManyVerificationAttemptsException;
+import com.algovision.algovisionbackend.modules.email.template.MailTemplate;
+import com.algovision.algovisionbackend.modules.email.template.MailTemplateEngine;
+import com.algovision.algovisionbackend.modules.email.template.RenderedMail;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
@@ -19,25 +23,44 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class EmailService {
     private static final Random random = new Random();
+    private static final long CODE_TTL_MINUTES = 3;
 
-    private final JavaMailSender mailSender;
+    private final MailDispatcher mailDispatcher;
     private final StringRedisTemplate redisTemplate;
     private final EmailRateLimiterService rateLimiterService;
+    private final MailTemplateEngine templateEngine;
 
     public void sendVerificationCode(String email) {
         if (!rateLimiterService.canSend(email)) {
-            throw new TooManyEmailRequestsException();
+            throw TooManyEmailRequestsException.INSTANCE;
         }
 
+        // 코드를 먼저 저장한다. 발송 후 저장에 실패하면 검증할 수 없는 코드가 메일로 나가게 된다.
+        // 발송은 워커에 맡겨 요청 스레드가 SMTP 지연을 기다리지 않게 한다.
         String code = generateCode();
-        sendMail(email, code);
-        redisTemplate.opsForValue().set(codeKey(email), code, 3, TimeUnit.MINUTES);
+        String previousCode = redisTemplate.opsForValue()
+                .setGet(codeKey(email), code, CODE_TTL_MINUTES, TimeUnit.MINUTES);
+
+        RenderedMail mail = templateEngine.render(MailTemplate.VERIFICATION, LocaleContextHolder.getLocale(),
+                Map.of("code", code, "expiresMinutes", CODE_TTL_MINUTES));
+        try {
+            mailDispatcher.dispatch(email, message -> prepareMail(message, email, mail));
+        } catch (MailQueueFullException e) {
+            // 대기열에 들어가지 못했으면 저장한 코드와 소비한 발송 횟수를 되돌린다.
+            restoreCode(email, previousCode);
+            rateLimiterService.refundSend(email);
+            throw e;
+        }
     }
 
     public void verifyCode(String email, String code) {
+        if (!rateLimiterService.canVerify(email)) {
+            throw TooManyVerificationAttemptsException.INSTANCE;
+        }
+
         String savedCode = redisTemplate.opsForValue().get(codeKey(email));
         if(savedCode == null || !savedCode.equals(code)){
-            throw new InvalidVerificationCodeException();
+            throw InvalidVerificationCodeException.INSTANCE;
         }
     }
 
@@ -49,6 +72,17 @@ public class EmailService {
         return "true".equals(redisTemplate.opsForValue().get(verifiedKey(email)));
     }
 
+    /**
+     * 이전에 보낸 코드가 있었다면 그 코드로 되돌린다. 남은 TTL은 알 수 없으므로 다시 CODE_TTL_MINUTES로 둔다.
+     */
+    private void restoreCode(String email, String previousCode) {
+        if (previousCode == null) {
+            redisTemplate.delete(codeKey(email));
+        } else {
+            redisTemplate.opsForValue().set(codeKey(email), previousCode, CODE_TTL_MINUTES, TimeUnit.MINUTES);
+        }
+    }
+
     private String codeKey(String email) {
         String prefix = "email:";
         return prefix + email;
@@ -63,41 +97,11 @@ public class EmailService {
         return String.format("%06d", random.nextInt(1000000));
     }
 
-    private void sendMail(String email, String code) {
-        MimeMessage message = mailSender.createMimeMessage();
-        try {
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            helper.setTo(email);
-            helper.setSubject("[Algovision] 이메일 인증 안내");
-
-            String htmlContent = """
-                <html>
-                <body style="font-family: 'Segoe UI', sans-serif; background-color: #f7f8fa; padding: 20px;">
-                    <table align="center" width="480" style="background-color: white; border-radius: 10px; box-shadow: 0 2px 8px rgba(0,0,0,0.05);">
-                        <tr>
-                            <td style="padding: 30px; text-align: center;">
-                                <h2 style="color: #2e5aac; margin-bottom: 20px;">Algovision 이메일 인증</h2>
-                                <p style="font-size: 15px; color: #444;">안녕하세요 👋<br/>서비스 이용을 위해 아래 인증 코드를 입력해주세요.</p>
-                                <div style="margin: 30px 0;">
-                                    <span style="display:inline-block; background-color:#2e5aac; color:white; font-size:22px; 
-                                                 font-weight:bold; letter-spacing:4px; padding:12px 24px; border-radius:8px;">
-                                        %s
-                                    </span>
-                                </div>
-                                <p style="font-size: 13px; color: #888;">해당 코드는 <b>3분간</b>만 유효합니다.<br/>타인에게 공유하지 마세요.</p>
-                                <hr style="border:none; border-top:1px solid #eee; margin:30px 0;">
-                                <p style="font-size: 12px; color: #999;">본 메일은 발신전용입니다.<br/>문의: support@algovision.com</p>
-                            </td>
-                        </tr>
-                    </table>
-                </body>
-                </html>
-                """.formatted(code);
-
-            helper.setText(htmlContent, true);
-            mailSender.send(message);
-        } catch (MessagingException | MailException e) {
-            throw new MailSendFailedException();
-        }
+    private void prepareMail(MimeMessage message, String email, RenderedMail mail) throws MessagingException {
+        // 본문 하나뿐인 메일이므로 multipart 없이 작성한다.
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setTo(email);
+        helper.setSubject(mail.subject());
+        helper.setText(mail.html(), true);
     }
 }
@@ -0,0 +1,169 @@
+package com.algovision.algovisionbackend.modules.email.service;
+
+import com.algovision.algovisionbackend.modules.email.config.MailDispatchProperties;
+import com.algovision.algovisionbackend.modules.email.exception.MailQueueFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 발송을 요청 스레드에서 분리한다.
+ * <p>
+ * 요청은 크기가 제한된 대기열에 넣기만 하고 바로 반환하며, 워커가 꺼내 SMTP로 보낸다.
+ * 대기열이 가득 차면 {@link MailQueueFullException}으로 즉시 거절해 요청 스레드가 SMTP 지연을 기다리지 않게 한다.
+ * 발송 실패는 지수 백오프로 재시도하고, 끝내 실패하면 로그와 메트릭만 남긴다.
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private final JavaMailSender mailSender;
+    private final MailDispatchProperties properties;
+    private final BlockingQueue<MailTask> queue;
+
+    private final Timer sendSuccess;
+    private final Timer sendFailure;
+    private final Counter rejected;
+    private final Counter retried;
+    private final Counter errors;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public MailDispatcher(JavaMailSender mailSender, MailDispatchProperties properties, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        meterRegistry.gauge("mail.dispatch.queue.size", queue, BlockingQueue::size);
+        this.sendSuccess = Timer.builder("mail.dispatch.send").tag("outcome", "success").register(meterRegistry);
+        this.sendFailure = Timer.builder("mail.dispatch.send").tag("outcome", "failure").register(meterRegistry);
+        this.rejected = meterRegistry.counter("mail.dispatch.rejected");
+        this.retried = meterRegistry.counter("mail.dispatch.retried");
+        this.errors = meterRegistry.counter("mail.dispatch.errors");
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        Thread.Builder builder = properties.isVirtualThreads()
+                ? Thread.ofVirtual().name("mail-worker-", 0)
+                : Thread.ofPlatform().daemon().name("mail-worker-", 0);
+
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.add(builder.start(this::runWorker));
+        }
+    }
+
+    /**
+     * 메일을 대기열에 넣는다. 발송 결과는 기다리지 않는다.
+     *
+     * @param recipient  로그에 남길 수신자
+     * @param preparator 메시지 작성기. 재시도 시 다시 호출될 수 있다.
+     * @throws MailQueueFullException 대기열이 가득 찬 경우
+     */
+    public void dispatch(String recipient, MimeMessagePreparator preparator) {
+        if (!running || !queue.offer(new MailTask(recipient, preparator))) {
+            rejected.increment();
+            throw new MailQueueFullException();
+        }
+    }
+
+    public int queueSize() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        long deadline = System.nanoTime() + properties.getShutdownTimeout().toNanos();
+
+        // 워커는 대기열이 빌 때까지 계속 보내고, 시간 안에 끝나지 않으면 중단시킨다.
+        for (Thread worker : workers) {
+            long remaining = deadline - System.nanoTime();
+            try {
+                if (remaining <= 0 || !worker.join(Duration.ofNanos(remaining))) {
+                    worker.interrupt();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (!queue.isEmpty()) {
+            log.warn("종료 시 미발송 메일 {}건 폐기", queue.size());
+            queue.clear();
+        }
+    }
+
+    private void runWorker() {
+        while (running || !queue.isEmpty()) {
+            MailTask task;
+            try {
+                task = queue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task == null) {
+                continue;
+            }
+            // 메시지 작성 중 예외 등 예상하지 못한 오류가 워커를 끝내지 않도록 건마다 잡는다.
+            try {
+                send(task);
+            } catch (RuntimeException e) {
+                errors.increment();
+                log.error("메일 발송 중 예기치 않은 오류: to={}", task.recipient(), e);
+            }
+        }
+    }
+
+    private void send(MailTask task) {
+        long backoffMillis = properties.getInitialBackoff().toMillis();
+
+        for (int attempt = 1; attempt <= properties.getMaxAttempts(); attempt++) {
+            long start = System.nanoTime();
+            try {
+                mailSender.send(task.preparator());
+                sendSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return;
+            } catch (MailException e) {
+                sendFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+                if (attempt == properties.getMaxAttempts()) {
+                    log.error("메일 발송 최종 실패: to={}, attempts={}", task.recipient(), attempt, e);
+                    return;
+                }
+                log.warn("메일 발송 실패, {}ms 후 재시도: to={}, attempt={}", backoffMillis, task.recipient(), attempt);
+            }
+
+            retried.increment();
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("메일 재시도 중단: to={}", task.recipient());
+                return;
+            }
+            backoffMillis = (long) (backoffMillis * properties.getBackoffMultiplier());
+        }
+    }
+
+    private record MailTask(String recipient, MimeMessagePreparator preparator) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.algovision.algovisionbackend.modules.email.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code {{name}}} 자리표시자를 기준으로 미리 쪼개 둔 템플릿.
+ * 렌더링 시에는 고정 조각을 그대로 이어 붙이고 변수만 HTML 이스케이프해서 쓴다.
+ */
+final class CompiledTemplate {
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int VARIABLE_ESTIMATE = 16;
+
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+    private final boolean escape;
+
+    private CompiledTemplate(String[] literals, String[] variables, boolean escape) {
+        this.literals = literals;
+        this.variables = variables;
+        this.escape = escape;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * @param escape true면 변수 값을 HTML 이스케이프한다. 제목처럼 평문인 경우 false.
+     */
+    static CompiledTemplate compile(String source, boolean escape) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 템플릿 변수: " + source.substring(open));
+            }
+
+            literals.add(source.substring(position, open));
+            variables.add(source.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+
+        return new CompiledTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new), escape);
+    }
+
+    String render(Map<String, ?> values) {
+        StringBuilder out = new StringBuilder(literalLength + variables.length * VARIABLE_ESTIMATE);
+
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            Object value = values.get(variables[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("템플릿 변수 값이 없습니다: " + variables[i]);
+            }
+            appendValue(out, String.valueOf(value));
+        }
+        out.append(literals[variables.length]);
+
+        return out.toString();
+    }
+
+    private void appendValue(StringBuilder out, String value) {
+        if (!escape) {
+            out.append(value);
+            return;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.algovision.algovisionbackend.modules.email.template;
+
+public enum MailTemplate {
+    VERIFICATION("verification"),
+    PASSWORD_RESET("password-reset"),
+    NOTICE("notice");
+
+    private final String fileName;
+
+    MailTemplate(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+}
@@ -0,0 +1,83 @@
+package com.algovision.algovisionbackend.modules.email.template;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 메일 템플릿을 시작 시 한 번 읽어 컴파일해 두고, 발송 때는 변수만 채운다.
+ * 템플릿은 {@code templates/mail/<언어>/<이름>.html}, 제목은 같은 위치의 {@code .subject.txt}에 둔다.
+ * 요청 언어의 템플릿이 없으면 기본 언어(한국어)를 사용한다.
+ */
+@Component
+public class MailTemplateEngine {
+    static final Locale DEFAULT_LOCALE = Locale.KOREAN;
+    private static final List<Locale> SUPPORTED_LOCALES = List.of(Locale.KOREAN, Locale.ENGLISH);
+    private static final String BASE_PATH = "templates/mail/";
+
+    private final Map<String, Map<MailTemplate, Compiled>> templates = new HashMap<>();
+
+    @PostConstruct
+    public void init() {
+        for (Locale locale : SUPPORTED_LOCALES) {
+            Map<MailTemplate, Compiled> byTemplate = new EnumMap<>(MailTemplate.class);
+            for (MailTemplate template : MailTemplate.values()) {
+                String prefix = BASE_PATH + locale.getLanguage() + "/" + template.getFileName();
+                String subject = read(prefix + ".subject.txt");
+                String html = read(prefix + ".html");
+                if (subject != null && html != null) {
+                    byTemplate.put(template, new Compiled(
+                            CompiledTemplate.compile(subject.strip(), false),
+                            CompiledTemplate.compile(html, true)));
+                }
+            }
+            templates.put(locale.getLanguage(), byTemplate);
+        }
+
+        for (MailTemplate template : MailTemplate.values()) {
+            if (!templates.get(DEFAULT_LOCALE.getLanguage()).containsKey(template)) {
+                throw new IllegalStateException("기본 언어 메일 템플릿이 없습니다: " + template);
+            }
+        }
+    }
+
+    public RenderedMail render(MailTemplate template, Locale locale, Map<String, ?> values) {
+        Compiled compiled = resolve(template, locale);
+        return new RenderedMail(compiled.subject().render(values), compiled.html().render(values));
+    }
+
+    private Compiled resolve(MailTemplate template, Locale locale) {
+        if (locale != null) {
+            Map<MailTemplate, Compiled> byTemplate = templates.get(locale.getLanguage());
+            if (byTemplate != null && byTemplate.containsKey(template)) {
+                return byTemplate.get(template);
+            }
+        }
+        return templates.get(DEFAULT_LOCALE.getLanguage()).get(template);
+    }
+
+    private String read(String path) {
+        ClassPathResource resource = new ClassPathResource(path);
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일 템플릿을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private record Compiled(CompiledTemplate subject, CompiledTemplate html) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.algovision.algovisionbackend.modules.email.template;
+
+public record RenderedMail(String subject, String html) {
+}
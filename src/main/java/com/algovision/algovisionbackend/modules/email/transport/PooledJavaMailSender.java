@@ -0,0 +1,203 @@
+package com.algovision.algovisionbackend.modules.email.transport;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 SMTP 연결을 재사용하는 {@link JavaMailSenderImpl}.
+ * <p>
+ * 기본 구현은 send 호출마다 연결, STARTTLS, 인증을 새로 수행한다.
+ * 이 구현은 최대 {@code maxConnections}개의 연결을 열어 두고 여러 메시지를 같은 연결로 보낸다.
+ * 최근에 쓴 연결부터 다시 꺼내므로(LIFO) 한가할 때는 오래된 연결이 자연스럽게 만료된다.
+ * 서버가 끊은 연결은 재사용 전 확인하거나, 발송 실패 시 새 연결로 한 번 더 보낸다.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final long maxIdleNanos;
+    private final long validateAfterNanos;
+    private final int maxMessagesPerConnection;
+    private final long borrowTimeoutNanos;
+
+    public PooledJavaMailSender(int maxConnections, Duration maxIdle, Duration validateAfter,
+                                int maxMessagesPerConnection, Duration borrowTimeout) {
+        this.permits = new Semaphore(maxConnections);
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.validateAfterNanos = validateAfter.toNanos();
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.borrowTimeoutNanos = borrowTimeout.toNanos();
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport pooled = borrow();
+
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                MimeMessage mimeMessage = mimeMessages[i];
+                Object original = (originalMessages != null ? originalMessages[i] : mimeMessage);
+                try {
+                    sendOne(pooled, mimeMessage);
+                } catch (MessagingException ex) {
+                    failedMessages.put(original, ex);
+                }
+            }
+        } finally {
+            release(pooled);
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    /**
+     * 연결이 끊겨 있어 실패한 경우에는 같은 슬롯에서 새로 연결해 한 번 더 보낸다.
+     */
+    private void sendOne(PooledTransport pooled, MimeMessage mimeMessage) throws MessagingException {
+        prepare(mimeMessage);
+        Address[] addresses = mimeMessage.getAllRecipients();
+        Address[] recipients = (addresses != null ? addresses : new Address[0]);
+
+        try {
+            pooled.transport.sendMessage(mimeMessage, recipients);
+        } catch (MessagingException ex) {
+            if (pooled.transport.isConnected()) {
+                throw ex;
+            }
+            log.debug("끊긴 SMTP 연결 감지, 새 연결로 재시도");
+            reconnect(pooled);
+            pooled.transport.sendMessage(mimeMessage, recipients);
+        } finally {
+            pooled.sent++;
+        }
+    }
+
+    private void prepare(MimeMessage mimeMessage) throws MessagingException {
+        // JavaMailSenderImpl.doSend와 같은 방식으로 Message-ID를 보존한다.
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+    }
+
+    private PooledTransport borrow() {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new MailSendException("SMTP 연결 풀 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("SMTP 연결 대기 중 인터럽트", e);
+        }
+
+        try {
+            PooledTransport pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (isReusable(pooled)) {
+                    return pooled;
+                }
+                close(pooled);
+            }
+            return new PooledTransport(open());
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private boolean isReusable(PooledTransport pooled) {
+        long idleNanos = System.nanoTime() - pooled.lastUsedNanos;
+        if (idleNanos >= maxIdleNanos) {
+            return false;
+        }
+        // SMTP isConnected()는 NOOP 왕복이므로 한동안 쉬었던 연결만 확인한다.
+        return idleNanos < validateAfterNanos || pooled.transport.isConnected();
+    }
+
+    private void release(PooledTransport pooled) {
+        try {
+            if (pooled.broken || pooled.sent >= maxMessagesPerConnection || !idle.offerFirst(pooled.touch())) {
+                close(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void reconnect(PooledTransport pooled) {
+        close(pooled);
+        pooled.broken = true;
+        pooled.transport = open();
+        pooled.broken = false;
+        pooled.sent = 0;
+    }
+
+    private Transport open() {
+        try {
+            return connectTransport();
+        } catch (AuthenticationFailedException ex) {
+            throw new MailAuthenticationException(ex);
+        } catch (MessagingException ex) {
+            throw new MailSendException("SMTP 서버 연결 실패", ex);
+        }
+    }
+
+    private void close(PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException ex) {
+            log.debug("SMTP 연결 종료 중 오류 무시", ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            close(pooled);
+        }
+    }
+
+    private static final class PooledTransport {
+        private Transport transport;
+        private long lastUsedNanos = System.nanoTime();
+        private int sent;
+        private boolean broken;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        private PooledTransport touch() {
+            lastUsedNanos = System.nanoTime();
+            return this;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+-- KEYS[1]: 회원 세션 해시 키
+-- ARGV[1]: 세션 ID, ARGV[2]: 세션 값, ARGV[3]: 현재 시각(ms), ARGV[4]: 최대 세션 수, ARGV[5]: 만료(ms)
+-- 세션 값: <토큰 해시>:<생성 시각>:<마지막 사용 시각>:<만료 시각>:<기기>
+local now = tonumber(ARGV[3])
+local max = tonumber(ARGV[4])
+
+local entries = redis.call('HGETALL', KEYS[1])
+local live = {}
+for i = 1, #entries, 2 do
+    local lastUsedAt, expiresAt = string.match(entries[i + 1], '^[^:]*:%d+:(%d+):(%d+):')
+    if not expiresAt or tonumber(expiresAt) <= now then
+        redis.call('HDEL', KEYS[1], entries[i])
+    elseif entries[i] ~= ARGV[1] then
+        live[#live + 1] = { entries[i], tonumber(lastUsedAt) }
+    end
+end
+
+-- 자리가 날 때까지 가장 오래 사용하지 않은 세션부터 끊는다.
+local evicted = 0
+while #live >= max do
+    local oldest = 1
+    for j = 2, #live do
+        if live[j][2] < live[oldest][2] then
+            oldest = j
+        end
+    end
+    redis.call('HDEL', KEYS[1], live[oldest][1])
+    table.remove(live, oldest)
+    evicted = evicted + 1
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[5])
+return evicted
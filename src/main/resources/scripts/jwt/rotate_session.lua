@@ -0,0 +1,23 @@
+-- KEYS[1]: 회원 세션 해시 키
+-- ARGV[1]: 세션 ID, ARGV[2]: 제시된 토큰 해시, ARGV[3]: 새 토큰 해시,
+-- ARGV[4]: 현재 시각(ms), ARGV[5]: 새 만료 시각(ms), ARGV[6]: 만료(ms)
+local current = redis.call('HGET', KEYS[1], ARGV[1])
+if not current then
+    return 0
+end
+
+local stored, createdAt, expiresAt, device = string.match(current, '^([^:]*):(%d+):%d+:(%d+):(.*)$')
+if not stored or tonumber(expiresAt) <= tonumber(ARGV[4]) then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    return 0
+end
+
+if stored ~= ARGV[2] then
+    -- 이미 교체된 토큰이 다시 제시됨: 탈취로 보고 이 세션을 끊는다.
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    return -1
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], table.concat({ ARGV[3], createdAt, ARGV[4], ARGV[5], device }, ':'))
+redis.call('PEXPIRE', KEYS[1], ARGV[6])
+return 1
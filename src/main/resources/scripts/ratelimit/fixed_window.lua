@@ -0,0 +1,11 @@
+-- KEYS[1]: 카운터 키
+-- ARGV[1]: limit, ARGV[2]: window(ms)
+local count = redis.call('INCR', KEYS[1])
+if count == 1 then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+
+if count > tonumber(ARGV[1]) then
+    return 0
+end
+return 1
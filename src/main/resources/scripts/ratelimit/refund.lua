@@ -0,0 +1,20 @@
+-- KEYS[1]: 제한 키, ARGV[1]: limit
+-- tryAcquire로 소비한 한 번을 되돌린다. 키 타입으로 알고리즘을 구분한다.
+local type = redis.call('TYPE', KEYS[1])['ok']
+
+if type == 'string' then
+    if tonumber(redis.call('GET', KEYS[1])) > 0 then
+        redis.call('DECR', KEYS[1])
+    end
+elseif type == 'zset' then
+    redis.call('ZPOPMAX', KEYS[1])
+elseif type == 'hash' then
+    local tokens = tonumber(redis.call('HGET', KEYS[1], 'tokens'))
+    if tokens ~= nil then
+        tokens = math.min(tonumber(ARGV[1]), tokens + 1)
+        redis.call('HSET', KEYS[1], 'tokens', tostring(tokens))
+    end
+else
+    return 0
+end
+return 1
@@ -0,0 +1,15 @@
+-- KEYS[1]: 요청 시각 ZSET 키
+-- ARGV[1]: limit, ARGV[2]: window(ms), ARGV[3]: 요청 고유 ID
+-- 노드 간 시계 차이를 피하기 위해 Redis 서버 시각을 사용한다.
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local window = tonumber(ARGV[2])
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - window)
+if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[1]) then
+    return 0
+end
+
+redis.call('ZADD', KEYS[1], now, ARGV[3])
+redis.call('PEXPIRE', KEYS[1], window)
+return 1
@@ -0,0 +1,36 @@
+-- 가입 시 중복 판별은 유니크 인덱스 이름(idx_member_email, idx_member_nickname)으로 한다.
+-- 인라인 UNIQUE나 Hibernate가 만든 UK_* 이름으로 생성된 기존 DB의 인덱스를 이 이름으로 맞춘다.
+-- 운영은 ddl-auto=none이므로 배포 전에 직접 적용한다. 여러 번 실행해도 결과가 같다. (MySQL 8)
+
+-- 1. 정해진 이름의 유니크 인덱스가 없으면 만든다.
+SET @sql = (SELECT IF(COUNT(*) = 0,
+        'CREATE UNIQUE INDEX idx_member_email ON members (email)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'members' AND index_name = 'idx_member_email');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = (SELECT IF(COUNT(*) = 0,
+        'CREATE UNIQUE INDEX idx_member_nickname ON members (nickname)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'members' AND index_name = 'idx_member_nickname');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2. email, nickname 단일 컬럼에 걸린 나머지 유니크 인덱스를 지운다.
+SET @drops = (SELECT GROUP_CONCAT(DISTINCT CONCAT('DROP INDEX `', s.index_name, '`'))
+    FROM information_schema.statistics s
+    WHERE s.table_schema = DATABASE() AND s.table_name = 'members'
+      AND s.non_unique = 0
+      AND s.column_name IN ('email', 'nickname')
+      AND s.index_name NOT IN ('PRIMARY', 'idx_member_email', 'idx_member_nickname')
+      AND NOT EXISTS (SELECT 1
+          FROM information_schema.statistics c
+          WHERE c.table_schema = s.table_schema AND c.table_name = s.table_name
+            AND c.index_name = s.index_name AND c.seq_in_index > 1));
+SET @sql = IF(@drops IS NULL, 'DO 0', CONCAT('ALTER TABLE members ', @drops));
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
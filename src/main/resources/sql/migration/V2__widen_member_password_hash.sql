@@ -0,0 +1,3 @@
+-- 로그인 시 해시를 {bcrypt} 접두사가 붙은 형식으로 다시 저장하므로 60자로는 부족하다.
+-- ddl-auto로 만들어진 VARCHAR(60) 컬럼을 schema.sql과 같은 길이로 넓힌다. (MySQL 8)
+ALTER TABLE members MODIFY password_hash VARCHAR(255) NOT NULL;
@@ -0,0 +1,9 @@
+-- 회원 목록 커서 검색(searchByCursor)은 (created_at, id) 범위 탐색에 의존한다.
+-- 운영은 ddl-auto=none이므로 인덱스가 없으면 만든다. 여러 번 실행해도 결과가 같다. (MySQL 8)
+SET @sql = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_member_created_at_id ON members (created_at, id)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'members' AND index_name = 'idx_member_created_at_id');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,116 @@
+package com.algovision.algovisionbackend.benchmark;
+
+import com.algovision.algovisionbackend.global.security.config.AuthProperties;
+import com.algovision.algovisionbackend.global.security.jwt.JwtProperties;
+import com.algovision.algovisionbackend.global.security.jwt.JwtProvider;
+import com.algovision.algovisionbackend.global.security.jwt.filter.JwtAuthenticationFilter;
+import com.algovision.algovisionbackend.global.security.jwt.filter.SecurityErrorResponseWriter;
+import com.algovision.algovisionbackend.global.security.jwt.service.BlacklistNearCache;
+import com.algovision.algovisionbackend.global.security.jwt.service.JwtRedisService;
+import com.algovision.algovisionbackend.global.security.service.CustomUserDetailsService;
+import com.algovision.algovisionbackend.global.security.service.MemberDetailsCache;
+import com.algovision.algovisionbackend.modules.auth.domain.Member;
+import com.algovision.algovisionbackend.modules.auth.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인증된 요청 1건이 {@link JwtAuthenticationFilter}를 통과하는 비용.
+ * <p>
+ * Redis는 블랙리스트 조회에 항상 "없음"을 돌려주는 스텁, 회원 저장소는 Mockito 스텁이다.
+ * near-cache가 준비되지 않은 상태로 두어 블랙리스트 확인은 매번 (스텁) Redis까지 간다.
+ * {@code liveStatusCheck=true}는 토큰 클레임 대신 로컬 캐시를 거쳐 회원을 조회하는 경로다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark";
+    private static final String SESSION_ID = "benchmark-session";
+
+    @Param({"false", "true"})
+    private boolean liveStatusCheck;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setAccessExpiration(3600000L);
+        jwtProperties.setRefreshExpiration(1209600000L);
+
+        JwtProvider jwtProvider = new JwtProvider(jwtProperties);
+        jwtProvider.init();
+
+        AuthProperties authProperties = new AuthProperties();
+        authProperties.setLiveStatusCheck(liveStatusCheck);
+
+        Member member = Member.builder()
+                .id(1L)
+                .email("bench@test.com")
+                .nickname("bench")
+                .passwordHash("passwordHash")
+                .build();
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        when(memberRepository.findById(anyLong())).thenReturn(Optional.of(member));
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate() {
+            @Override
+            public Boolean hasKey(String key) {
+                return false;
+            }
+        };
+        JwtRedisService jwtRedisService =
+                new JwtRedisService(redisTemplate, new BlacklistNearCache(jwtProperties), jwtProperties);
+
+        filter = new JwtAuthenticationFilter(
+                jwtProvider,
+                new CustomUserDetailsService(memberRepository, new MemberDetailsCache(authProperties)),
+                jwtRedisService,
+                authProperties,
+                new SecurityErrorResponseWriter(new ObjectMapper())
+        );
+        authorization = "Bearer " + jwtProvider.generateAccessToken(member, SESSION_ID);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/me");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
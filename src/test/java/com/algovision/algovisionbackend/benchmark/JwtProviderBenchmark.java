@@ -0,0 +1,71 @@
+package com.algovision.algovisionbackend.benchmark;
+
+import com.algovision.algovisionbackend.global.security.jwt.JwtProperties;
+import com.algovision.algovisionbackend.global.security.jwt.JwtProvider;
+import com.algovision.algovisionbackend.modules.auth.domain.Member;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtProvider}의 발급/검증 단위 비용.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtProviderBenchmark {
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark";
+    private static final String SESSION_ID = "benchmark-session";
+
+    private JwtProvider jwtProvider;
+    private Member member;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret(SECRET);
+        props.setAccessExpiration(3600000L);
+        props.setRefreshExpiration(1209600000L);
+
+        jwtProvider = new JwtProvider(props);
+        jwtProvider.init();
+
+        member = Member.builder()
+                .id(1L)
+                .email("bench@test.com")
+                .nickname("bench")
+                .passwordHash("passwordHash")
+                .build();
+        token = jwtProvider.generateAccessToken(member, SESSION_ID);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtProvider.generateAccessToken(member, SESSION_ID);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Long getMemberId() {
+        return jwtProvider.getMemberId(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtProviderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
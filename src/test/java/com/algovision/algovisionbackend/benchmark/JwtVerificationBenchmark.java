@@ -0,0 +1,89 @@
+package com.algovision.algovisionbackend.benchmark;
+
+import com.algovision.algovisionbackend.global.security.jwt.JwtProperties;
+import com.algovision.algovisionbackend.global.security.jwt.JwtProvider;
+import com.algovision.algovisionbackend.global.security.jwt.dto.VerifiedToken;
+import com.algovision.algovisionbackend.modules.auth.domain.Member;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청 1건이 토큰을 파싱하는 비용 비교.
+ * <p>
+ * {@code perRequestParsers}는 변경 전 흐름(필터의 validateToken + getMemberId, 로그아웃의 getRemainingExpiration)을,
+ * {@code verifyOnce}는 {@link JwtProvider#verify(String)} 한 번으로 같은 정보를 얻는 현재 흐름을 재현한다.
+ * 할당량은 GC 프로파일러의 {@code gc.alloc.rate.norm}(B/op)으로 확인한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark";
+    private static final String SESSION_ID = "benchmark-session";
+
+    private JwtProvider jwtProvider;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret(SECRET);
+        props.setAccessExpiration(3600000L);
+        props.setRefreshExpiration(1209600000L);
+
+        jwtProvider = new JwtProvider(props);
+        jwtProvider.init();
+
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = jwtProvider.generateAccessToken(Member.builder()
+                .id(1L)
+                .email("bench@test.com")
+                .nickname("bench")
+                .passwordHash("passwordHash")
+                .build(), SESSION_ID);
+    }
+
+    @Benchmark
+    public void perRequestParsers(Blackhole bh) {
+        // validateToken
+        bh.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token));
+
+        // getMemberId
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        bh.consume(Long.valueOf(claims.getSubject()));
+
+        // getRemainingExpiration
+        Date expiration = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration();
+        bh.consume(expiration.getTime() - System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public void verifyOnce(Blackhole bh) {
+        VerifiedToken verified = jwtProvider.verify(token);
+        bh.consume(verified.memberId());
+        bh.consume(verified.remainingMillis());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,49 @@
+package com.algovision.algovisionbackend.benchmark;
+
+import com.algovision.algovisionbackend.modules.auth.domain.Member;
+import com.algovision.algovisionbackend.modules.auth.dto.MemberResponse;
+import com.algovision.algovisionbackend.modules.auth.mapper.MemberMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 응답마다 실행되는 {@link MemberMapper#toResponse(Member)} 비용.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberMapperBenchmark {
+
+    private final MemberMapper mapper = MemberMapper.INSTANCE;
+    private Member member;
+
+    @Setup
+    public void setUp() {
+        member = Member.builder()
+                .id(1L)
+                .email("bench@test.com")
+                .nickname("bench")
+                .passwordHash("passwordHash")
+                .build();
+    }
+
+    @Benchmark
+    public MemberResponse toResponse() {
+        return mapper.toResponse(member);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MemberMapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,68 @@
+package com.algovision.algovisionbackend.benchmark;
+
+import com.algovision.algovisionbackend.global.validation.Nickname;
+import com.algovision.algovisionbackend.global.validation.NicknameValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 가입/닉네임 변경/중복 확인마다 실행되는 {@link NicknameValidator#isValid} 비용.
+ * <p>
+ * {@code regex}는 변경 전 구현(정규식 Matcher + UTF-16 길이)을 재현한 기준선이다.
+ * 할당량은 GC 프로파일러의 {@code gc.alloc.rate.norm}(B/op)으로 확인한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NicknameValidatorBenchmark {
+    private static final Pattern ALLOWED = Pattern.compile("^[a-zA-Z0-9가-힣_\\-\\.]+$");
+
+    @Param({"user_01", "한글_English-123", "invalid nickname!"})
+    private String nickname;
+
+    private NicknameValidator validator;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        validator = new NicknameValidator();
+        validator.initialize(Target.class.getDeclaredField("nickname").getAnnotation(Nickname.class));
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(nickname, null);
+    }
+
+    @Benchmark
+    public boolean regex() {
+        if (nickname.isBlank()) {
+            return false;
+        }
+        int len = nickname.length();
+        if (len < 2 || len > 20) {
+            return false;
+        }
+        return ALLOWED.matcher(nickname).matches();
+    }
+
+    private static class Target {
+        @Nickname
+        private String nickname;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NicknameValidatorBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
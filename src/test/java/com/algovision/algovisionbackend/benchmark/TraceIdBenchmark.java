@@ -0,0 +1,44 @@
+package com.algovision.algovisionbackend.benchmark;
+
+import com.algovision.algovisionbackend.global.logging.TraceIdGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 trace ID를 만드는 비용 비교.
+ * <p>
+ * {@code uuidSubstring}은 변경 전 ApiLoggingFilter 방식(SecureRandom 기반 UUID를 잘라 씀)이고,
+ * {@code threadLocalRandom}은 {@link TraceIdGenerator}다. 모든 코어에서 동시에 돌려 SecureRandom 경합을 드러낸다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraceIdBenchmark {
+
+    @Benchmark
+    public String uuidSubstring() {
+        return UUID.randomUUID().toString().substring(0, 12);
+    }
+
+    @Benchmark
+    public String threadLocalRandom() {
+        return TraceIdGenerator.traceId();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TraceIdBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
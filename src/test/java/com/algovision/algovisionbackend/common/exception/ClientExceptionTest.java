@@ -0,0 +1,44 @@
+package com.algovision.algovisionbackend.common.exception;
+
+import com.algovision.algovisionbackend.modules.auth.exception.DuplicateEmailException;
+import com.algovision.algovisionbackend.modules.auth.exception.InvalidLoginException;
+import com.algovision.algovisionbackend.modules.email.exception.MailSendFailedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClientExceptionTest {
+
+    @Test
+    @DisplayName("4xx 예외는 스택 트레이스를 채우지 않는다")
+    void clientException_isStackless() {
+        assertThat(new DuplicateEmailException("a@test.com").getStackTrace()).isEmpty();
+        assertThat(InvalidLoginException.INSTANCE.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("5xx 예외는 스택 트레이스를 유지한다")
+    void serverException_keepsStackTrace() {
+        assertThat(new MailSendFailedException().getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("공유 인스턴스에는 suppressed 예외가 쌓이지 않는다")
+    void sharedInstance_isImmutable() {
+        InvalidLoginException.INSTANCE.addSuppressed(new IllegalStateException());
+
+        assertThat(InvalidLoginException.INSTANCE.getSuppressed()).isEmpty();
+        assertThatThrownBy(() -> InvalidLoginException.INSTANCE.initCause(new IllegalStateException()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("4xx가 아닌 상태로는 만들 수 없다")
+    void rejectsNonClientStatus() {
+        assertThatThrownBy(() -> new ClientException("boom", HttpStatus.INTERNAL_SERVER_ERROR) {
+        }).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,133 @@
+package com.algovision.algovisionbackend.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiLoggingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ApiLoggingFilter filter;
+
+    private final Logger filterLogger = (Logger) LoggerFactory.getLogger(ApiLoggingFilter.class);
+    private final ListAppender<ILoggingEvent> logs = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        filter = new ApiLoggingFilter();
+        filter.setMeterRegistry(meterRegistry);
+
+        filterLogger.setLevel(Level.INFO);
+        logs.start();
+        filterLogger.addAppender(logs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        filterLogger.detachAppender(logs);
+        filterLogger.setLevel(null);
+    }
+
+    @Test
+    @DisplayName("임계값을 넘은 요청은 URI 템플릿 태그로 센다")
+    void slowRequest_countedByUriTemplate() throws Exception {
+        filter.setSlowRequestThreshold(0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/members/{id}");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(meterRegistry.get(ApiLoggingFilter.SLOW_REQUEST_METRIC)
+                .tags("method", "GET", "uri", "/api/members/{id}", "status", "200")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("임계값 안의 요청은 세지 않는다")
+    void fastRequest_notCounted() throws Exception {
+        filter.setSlowRequestThreshold(60_000);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/members/me"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        assertThat(meterRegistry.find(ApiLoggingFilter.SLOW_REQUEST_METRIC).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("들어온 traceparent의 trace ID를 MDC와 응답 헤더에 그대로 쓴다")
+    void incomingTraceparent_isEchoed() throws Exception {
+        filter.setSlowRequestThreshold(60_000);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/me");
+        request.addHeader(TraceContext.TRACEPARENT_HEADER, "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> traceIdInChain = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> traceIdInChain.set(MDC.get("traceId")));
+
+        assertThat(traceIdInChain.get()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(response.getHeader(ApiLoggingFilter.TRACE_ID_HEADER)).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(response.getHeader(TraceContext.TRACEPARENT_HEADER))
+                .startsWith("00-4bf92f3577b34da6a3ce929d0e0e4736-")
+                .doesNotContain("00f067aa0ba902b7");
+    }
+
+    @Test
+    @DisplayName("외부 trace를 믿지 않도록 설정하면 새 trace ID를 만든다")
+    void incomingTraceparent_ignoredWhenDisabled() throws Exception {
+        filter.setSlowRequestThreshold(60_000);
+        filter.setAcceptIncomingTrace(false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/me");
+        request.addHeader(TraceContext.TRACEPARENT_HEADER, "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getHeader(ApiLoggingFilter.TRACE_ID_HEADER))
+                .matches("[0-9a-f]{32}")
+                .isNotEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+    }
+
+    @Test
+    @DisplayName("샘플링 비율이 0이면 빠른 2xx 요청은 남기지 않는다")
+    void fastSuccess_skippedWhenNotSampled() throws Exception {
+        filter.setSlowRequestThreshold(60_000);
+        filter.setAccessLogSampleRate(0);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/members/me"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        assertThat(logs.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("샘플링 비율과 관계없이 오류 응답과 느린 요청은 남긴다")
+    void errorAndSlowRequests_alwaysLogged() throws Exception {
+        filter.setAccessLogSampleRate(0);
+
+        filter.setSlowRequestThreshold(60_000);
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/members/login"), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(401));
+
+        filter.setSlowRequestThreshold(0);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/members/me"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        assertThat(logs.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.INFO, Level.WARN);
+    }
+}
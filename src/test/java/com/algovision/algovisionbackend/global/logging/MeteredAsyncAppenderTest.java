@@ -0,0 +1,92 @@
+package com.algovision.algovisionbackend.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeteredAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final CountDownLatch delivering = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private MeteredAsyncAppender appender;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("neverBlock 큐가 가득 차면 이벤트를 버리고 overflow로 센다")
+    void fullQueue_countsOverflow() throws Exception {
+        start(1, 0);
+
+        appender.doAppend(event(Level.ERROR));
+        assertThat(delivering.await(1, TimeUnit.SECONDS)).isTrue();
+        appender.doAppend(event(Level.ERROR));
+        appender.doAppend(event(Level.ERROR));
+
+        assertThat(appender.getOverflowCount()).isEqualTo(1);
+        assertThat(appender.getDiscardedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 discardingThreshold 아래로 차면 INFO 이하만 버리고 discarded로 센다")
+    void belowThreshold_discardsInfoOnly() throws Exception {
+        start(2, 2);
+
+        appender.doAppend(event(Level.INFO));
+        assertThat(delivering.await(1, TimeUnit.SECONDS)).isTrue();
+        appender.doAppend(event(Level.INFO));
+        appender.doAppend(event(Level.INFO));
+        appender.doAppend(event(Level.WARN));
+
+        assertThat(appender.getDiscardedCount()).isEqualTo(1);
+        assertThat(appender.getOverflowCount()).isZero();
+        assertThat(appender.getNumberOfElementsInQueue()).isEqualTo(2);
+    }
+
+    private void start(int queueSize, int discardingThreshold) {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+
+        AppenderBase<ILoggingEvent> blocking = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                delivering.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        blocking.setContext(context);
+        blocking.start();
+
+        appender = new MeteredAsyncAppender();
+        appender.setContext(context);
+        appender.setName("test");
+        appender.setQueueSize(queueSize);
+        appender.setDiscardingThreshold(discardingThreshold);
+        appender.setNeverBlock(true);
+        appender.setMaxFlushTime(0);
+        appender.addAppender(blocking);
+        appender.start();
+    }
+
+    private ILoggingEvent event(Level level) {
+        return new LoggingEvent(getClass().getName(), context.getLogger("test"), level, "message", null, null);
+    }
+}
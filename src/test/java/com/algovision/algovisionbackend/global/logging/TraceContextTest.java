@@ -0,0 +1,52 @@
+package com.algovision.algovisionbackend.global.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceContextTest {
+
+    @Test
+    @DisplayName("생성한 ID는 W3C 형식(소문자 16진수)을 따른다")
+    void generatedIds_followW3cFormat() {
+        TraceContext trace = TraceContext.newRoot();
+
+        assertThat(trace.traceId()).matches("[0-9a-f]{32}");
+        assertThat(trace.spanId()).matches("[0-9a-f]{16}");
+        assertThat(trace.toTraceparent()).matches("00-[0-9a-f]{32}-[0-9a-f]{16}-01");
+    }
+
+    @Test
+    @DisplayName("올바른 traceparent는 trace ID를 이어받고 span만 새로 만든다")
+    void validTraceparent_continuesTrace() {
+        String header = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+        TraceContext trace = TraceContext.fromTraceparent(header);
+
+        assertThat(trace.traceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(trace.parentId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(trace.spanId()).isNotEqualTo("00f067aa0ba902b7");
+        assertThat(trace.flags()).isEqualTo("01");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "garbage",
+            "01-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01",
+            "00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01",
+            "00-00000000000000000000000000000000-00f067aa0ba902b7-01",
+            "00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01",
+            "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-0\n"
+    })
+    @DisplayName("형식이 틀린 traceparent는 버리고 새 trace를 시작한다")
+    void invalidTraceparent_startsNewTrace(String header) {
+        TraceContext trace = TraceContext.fromTraceparent(header);
+
+        assertThat(trace.parentId()).isNull();
+        assertThat(trace.traceId()).matches("[0-9a-f]{32}");
+    }
+}
@@ -0,0 +1,42 @@
+package com.algovision.algovisionbackend.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimiterTest {
+
+    @Test
+    @DisplayName("윈도우 안에서 한도까지만 허용")
+    void tryAcquire_allowsUpToLimit() {
+        LocalRateLimiter limiter = new LocalRateLimiter(2, Duration.ofMinutes(1), 100);
+
+        assertThat(limiter.tryAcquire("1.1.1.1")).isTrue();
+        assertThat(limiter.tryAcquire("1.1.1.1")).isTrue();
+        assertThat(limiter.tryAcquire("1.1.1.1")).isFalse();
+        assertThat(limiter.tryAcquire("2.2.2.2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("윈도우가 지나면 다시 허용")
+    void tryAcquire_resetsAfterWindow() {
+        LocalRateLimiter limiter = new LocalRateLimiter(1, Duration.ZERO, 100);
+
+        assertThat(limiter.tryAcquire("1.1.1.1")).isTrue();
+        assertThat(limiter.tryAcquire("1.1.1.1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("키 수가 최대를 넘으면 가장 오래 사용하지 않은 키를 잊음")
+    void tryAcquire_forgetsLeastRecentlyUsedKey() {
+        LocalRateLimiter limiter = new LocalRateLimiter(1, Duration.ofMinutes(1), 1);
+
+        assertThat(limiter.tryAcquire("1.1.1.1")).isTrue();
+        assertThat(limiter.tryAcquire("2.2.2.2")).isTrue();
+
+        assertThat(limiter.tryAcquire("1.1.1.1")).isTrue();
+    }
+}
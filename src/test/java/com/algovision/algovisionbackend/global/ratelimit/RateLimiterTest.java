@@ -0,0 +1,117 @@
+package com.algovision.algovisionbackend.global.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setAlgorithm(RateLimitAlgorithm.SLIDING_WINDOW);
+        policy.setLimit(10);
+        policy.setWindow(Duration.ofMinutes(5));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getPolicies().put("login", policy);
+
+        rateLimiter = new RateLimiter(redisTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("정책 키와 한도를 스크립트 한 번으로 전달")
+    @SuppressWarnings("unchecked")
+    void tryAcquire_shouldRunScriptOnce() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+                .thenReturn(1L);
+
+        assertThat(rateLimiter.tryAcquire("login", "test@test.com")).isTrue();
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), eq("10"), eq("300000"), anyString());
+        assertThat(keys.getValue()).containsExactly("ratelimit:login:test@test.com");
+    }
+
+    @Test
+    @DisplayName("스크립트가 0을 반환하면 거부")
+    @SuppressWarnings("unchecked")
+    void tryAcquire_shouldRejectWhenScriptDenies() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+                .thenReturn(0L);
+
+        assertThat(rateLimiter.tryAcquire("login", "test@test.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("고정 윈도우는 요청 ID 없이 한도와 윈도우만 전달")
+    @SuppressWarnings("unchecked")
+    void tryAcquire_shouldNotPassRequestIdForFixedWindow() {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setAlgorithm(RateLimitAlgorithm.FIXED_WINDOW);
+        policy.setLimit(1);
+        policy.setWindow(Duration.ofMinutes(1));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getPolicies().put("email-send", policy);
+        RateLimiter fixedWindowLimiter = new RateLimiter(redisTemplate, properties);
+
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("1"), eq("60000")))
+                .thenReturn(1L);
+
+        assertThat(fixedWindowLimiter.tryAcquire("email-send", "test@test.com")).isTrue();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("소비한 한 번을 되돌릴 때 같은 키와 한도로 환불 스크립트 실행")
+    @SuppressWarnings("unchecked")
+    void refund_shouldRunRefundScriptWithSameKey() {
+        rateLimiter.refund("login", "test@test.com");
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), eq("10"));
+        assertThat(keys.getValue()).containsExactly("ratelimit:login:test@test.com");
+    }
+
+    @Test
+    @DisplayName("정의되지 않은 정책은 예외")
+    void tryAcquire_shouldFailOnUnknownPolicy() {
+        assertThatThrownBy(() -> rateLimiter.tryAcquire("unknown", "key"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("모든 알고리즘의 스크립트가 클래스패스에 존재")
+    void scripts_shouldExistOnClasspath() {
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            assertThat(new ClassPathResource(algorithm.getScriptPath()).exists()).isTrue();
+        }
+        assertThat(new ClassPathResource("scripts/ratelimit/refund.lua").exists()).isTrue();
+    }
+}
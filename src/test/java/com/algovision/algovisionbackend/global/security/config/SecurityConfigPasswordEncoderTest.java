@@ -0,0 +1,61 @@
+package com.algovision.algovisionbackend.global.security.config;
+
+import com.algovision.algovisionbackend.global.security.password.PasswordCostCalibrator;
+import com.algovision.algovisionbackend.global.security.password.PasswordHashingExecutor;
+import com.algovision.algovisionbackend.global.security.password.PasswordHashingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityConfigPasswordEncoderTest {
+
+    private PasswordHashingExecutor executor;
+    private PasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(5);
+        executor = new PasswordHashingExecutor(properties, new SimpleMeterRegistry());
+        encoder = new SecurityConfig(null, null).passwordEncoder(new PasswordCostCalibrator(properties), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.stop();
+    }
+
+    @Test
+    @DisplayName("새 해시는 {bcrypt} 접두사와 설정한 cost로 만든다")
+    void encode_prefixedWithConfiguredCost() {
+        String hash = encoder.encode("password123!");
+
+        assertThat(hash).startsWith("{bcrypt}$2a$05$");
+        assertThat(encoder.matches("password123!", hash)).isTrue();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("접두사 없는 기존 해시도 검증하고 갱신 대상으로 판단한다")
+    void legacyHash_matchesAndNeedsUpgrade() {
+        String legacy = new BCryptPasswordEncoder(4).encode("password123!");
+
+        assertThat(encoder.matches("password123!", legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+    }
+
+    @Test
+    @DisplayName("cost가 낮은 해시는 갱신 대상이다")
+    void lowerCostHash_needsUpgrade() {
+        String weaker = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("password123!");
+
+        assertThat(encoder.matches("password123!", weaker)).isTrue();
+        assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+    }
+}
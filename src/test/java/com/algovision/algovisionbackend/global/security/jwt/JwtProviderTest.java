@@ -1,5 +1,9 @@
 package com.algovision.algovisionbackend.global.security.jwt;
 
+import com.algovision.algovisionbackend.global.security.jwt.dto.VerifiedToken;
+import com.algovision.algovisionbackend.modules.auth.domain.Member;
+import com.algovision.algovisionbackend.modules.auth.domain.MemberStatus;
+import com.algovision.algovisionbackend.modules.auth.domain.Role;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,12 +32,77 @@ class JwtProviderTest {
     @Test
     @DisplayName("accessToken 생성")
     void createAccessToken_shouldContainMemberId() {
-        String token = jwtProvider.generateAccessToken(1L);
+        String token = jwtProvider.generateAccessToken(member(), "session-id");
 
         Long memberId = jwtProvider.getMemberId(token);
         assertThat(memberId).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("verify 한 번으로 회원 ID, 발급/만료 시각을 모두 얻는다")
+    void verify_shouldReturnVerifiedClaims() {
+        String token = jwtProvider.generateAccessToken(member(), "session-id");
+
+        VerifiedToken verified = jwtProvider.verify(token);
+
+        assertThat(verified.token()).isEqualTo(token);
+        assertThat(verified.memberId()).isEqualTo(1L);
+        assertThat(verified.issuedAt()).isNotNull();
+        assertThat(verified.expiresAt()).isAfter(verified.issuedAt());
+        assertThat(verified.remainingMillis()).isPositive().isLessThanOrEqualTo(600000L);
+    }
+
+    @Test
+    @DisplayName("accessToken에 role/status 클레임이 포함된다")
+    void createAccessToken_shouldContainRoleAndStatus() {
+        VerifiedToken verified = jwtProvider.verify(jwtProvider.generateAccessToken(member(), "session-id"));
+
+        assertThat(verified.hasMemberClaims()).isTrue();
+        assertThat(verified.role()).isEqualTo(Role.USER);
+        assertThat(verified.status()).isEqualTo(MemberStatus.ACTIVE);
+        assertThat(verified.sessionId()).isEqualTo("session-id");
+    }
+
+    @Test
+    @DisplayName("액세스 토큰마다 고유한 jti 발급")
+    void generateAccessToken_shouldIssueUniqueJti() {
+        VerifiedToken first = jwtProvider.verify(jwtProvider.generateAccessToken(member(), "session-id"));
+        VerifiedToken second = jwtProvider.verify(jwtProvider.generateAccessToken(member(), "session-id"));
+
+        assertThat(first.jti()).isNotBlank();
+        assertThat(first.jti()).isNotEqualTo(second.jti());
+    }
+
+    @Test
+    @DisplayName("tryVerify는 위조된 토큰에 대해 빈 값을 반환")
+    void tryVerify_shouldReturnEmpty_whenTokenTampered() {
+        String token = jwtProvider.generateAccessToken(member(), "session-id") + "tempered";
+
+        assertThat(jwtProvider.tryVerify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("refreshToken에 회원 ID, 세션 ID, 고유한 jti가 포함되고 refresh 만료 시간을 따른다")
+    void generateRefreshToken_shouldContainSubjectAndJti() {
+        VerifiedToken first = jwtProvider.tryVerifyRefreshToken(jwtProvider.generateRefreshToken(1L, "session-id")).orElseThrow();
+        VerifiedToken second = jwtProvider.tryVerifyRefreshToken(jwtProvider.generateRefreshToken(1L, "session-id")).orElseThrow();
+
+        assertThat(first.memberId()).isEqualTo(1L);
+        assertThat(first.sessionId()).isEqualTo("session-id");
+        assertThat(first.jti()).isNotBlank().isNotEqualTo(second.jti());
+        assertThat(first.remainingMillis()).isGreaterThan(600000L);
+    }
+
+    @Test
+    @DisplayName("refreshToken은 인증용 검증을 통과하지 못하고, accessToken은 재발급용 검증을 통과하지 못한다")
+    void tokenTypes_shouldNotBeInterchangeable() {
+        String accessToken = jwtProvider.generateAccessToken(member(), "session-id");
+        String refreshToken = jwtProvider.generateRefreshToken(1L, "session-id");
+
+        assertThat(jwtProvider.tryVerify(refreshToken)).isEmpty();
+        assertThat(jwtProvider.tryVerifyRefreshToken(accessToken)).isEmpty();
+    }
+
     @Test
     @DisplayName("만료된 토큰 검증 시 false 리턴")
     void validateToken_shouldReturnFalse_whenTokenExpired() throws InterruptedException{
@@ -44,8 +113,8 @@ class JwtProviderTest {
         ReflectionTestUtils.setField(jwtProvider, "jwtProperties", props);
         jwtProvider.init();
 
-        String accessToken = jwtProvider.generateAccessToken(1L);
-        String refreshToken = jwtProvider.generateRefreshToken();
+        String accessToken = jwtProvider.generateAccessToken(member(), "session-id");
+        String refreshToken = jwtProvider.generateRefreshToken(1L, "session-id");
         Thread.sleep(5);
 
         boolean result1 = jwtProvider.validateToken(accessToken);
@@ -58,10 +127,19 @@ class JwtProviderTest {
     @Test
     @DisplayName("위조된 토큰 검증 시 false 리턴")
     void validateToken_shouldReturnFalse_whenTokenTampered(){
-        String token = jwtProvider.generateAccessToken(1L) + "tempered";
+        String token = jwtProvider.generateAccessToken(member(), "session-id") + "tempered";
 
         boolean result = jwtProvider.validateToken(token);
 
         assertThat(result).isFalse();
     }
-}
\ No newline at end of file
+
+    private Member member() {
+        return Member.builder()
+                .id(1L)
+                .email("test@test.com")
+                .nickname("nickname")
+                .passwordHash("passwordHash")
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.algovision.algovisionbackend.global.security.jwt.filter;
+
+import com.algovision.algovisionbackend.global.handler.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityErrorResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SecurityErrorResponseWriter writer = new SecurityErrorResponseWriter(objectMapper);
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("GlobalExceptionHandler와 같은 ErrorResponse 형식에 현재 traceId를 담는다")
+    void writesErrorResponseWithTraceId() throws Exception {
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.writeBlacklistedToken(response);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        ErrorResponse body = objectMapper.readValue(response.getContentAsByteArray(), ErrorResponse.class);
+        assertThat(body).isEqualTo(new ErrorResponse(401, "로그아웃된 토큰입니다.", "4bf92f3577b34da6a3ce929d0e0e4736"));
+    }
+
+    @Test
+    @DisplayName("traceId가 없으면 null, 16진수가 아니면 이스케이프해서 쓴다")
+    void encodesMissingOrUnusualTraceId() throws Exception {
+        MockHttpServletResponse missing = new MockHttpServletResponse();
+        writer.writeInvalidToken(missing);
+
+        MDC.put("traceId", "a\"b");
+        MockHttpServletResponse unusual = new MockHttpServletResponse();
+        writer.writeInvalidToken(unusual);
+
+        assertThat(objectMapper.readValue(missing.getContentAsByteArray(), ErrorResponse.class).traceId()).isNull();
+        assertThat(objectMapper.readValue(unusual.getContentAsByteArray(), ErrorResponse.class).traceId()).isEqualTo("a\"b");
+    }
+}
@@ -0,0 +1,62 @@
+package com.algovision.algovisionbackend.global.security.jwt.service;
+
+import com.algovision.algovisionbackend.global.security.jwt.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlacklistNearCacheTest {
+
+    private BlacklistNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setAccessExpiration(3_600_000);
+        jwtProperties.getBlacklist().getNearCache().setExpectedInsertions(1_000);
+        jwtProperties.getBlacklist().getNearCache().setMaxLocalEntries(2);
+        nearCache = new BlacklistNearCache(jwtProperties);
+    }
+
+    @Test
+    @DisplayName("준비 전에는 항상 Redis 조회로 넘김")
+    void check_shouldReturnUnknownBeforeReady() {
+        nearCache.add("revoked", System.currentTimeMillis() + 60_000);
+
+        assertThat(nearCache.check("revoked")).isEqualTo(BlacklistNearCache.Result.UNKNOWN);
+        assertThat(nearCache.check("clean")).isEqualTo(BlacklistNearCache.Result.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("등록된 토큰은 블랙리스트, 미등록 토큰은 통과")
+    void check_shouldDecideLocallyWhenReady() {
+        nearCache.markReady();
+        nearCache.add("revoked", System.currentTimeMillis() + 60_000);
+
+        assertThat(nearCache.check("revoked")).isEqualTo(BlacklistNearCache.Result.REVOKED);
+        assertThat(nearCache.check("clean")).isEqualTo(BlacklistNearCache.Result.NOT_REVOKED);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시 한도를 넘은 토큰은 Redis 조회로 넘김")
+    void check_shouldReturnUnknownWhenLocalEntryEvicted() {
+        nearCache.markReady();
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        nearCache.add("first", expiresAt);
+        nearCache.add("second", expiresAt);
+        nearCache.add("third", expiresAt);
+
+        assertThat(nearCache.check("third")).isEqualTo(BlacklistNearCache.Result.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("구독이 끊기면 다시 Redis 조회로 넘김")
+    void markStale_shouldDisableLocalDecision() {
+        nearCache.markReady();
+        nearCache.markStale();
+
+        assertThat(nearCache.check("clean")).isEqualTo(BlacklistNearCache.Result.UNKNOWN);
+    }
+}
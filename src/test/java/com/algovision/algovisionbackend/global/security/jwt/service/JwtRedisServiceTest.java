@@ -1,50 +1,250 @@
 package com.algovision.algovisionbackend.global.security.jwt.service;
 
+import com.algovision.algovisionbackend.global.security.jwt.JwtProperties;
+import com.algovision.algovisionbackend.global.security.jwt.dto.RefreshSession;
+import com.algovision.algovisionbackend.global.security.jwt.dto.VerifiedToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class JwtRedisServiceTest {
+    private static final String LEGACY_TOKEN = "header.payload.signature";
+
     @Mock
     private StringRedisTemplate redisTemplate;
 
     @Mock
     private ValueOperations<String, String> valueOperations;
 
-    @InjectMocks
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private BlacklistNearCache nearCache;
+
+    private JwtProperties jwtProperties;
     private JwtRedisService jwtRedisService;
 
     @BeforeEach
     void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtRedisService = new JwtRedisService(redisTemplate, nearCache, jwtProperties);
+    }
+
+    @Test
+    @DisplayName("세션 생성 - 토큰 해시와 최대 세션 수를 스크립트에 전달")
+    void createSession_shouldStoreHashedTokenWithLimit() {
+        jwtProperties.getSession().setMaxPerMember(3);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("jwt:sessions:1")),
+                eq("session-id"), anyString(), anyString(), eq("3"), eq("60000")))
+                .thenReturn(1L);
+
+        long evicted = jwtRedisService.createSession(1L, "session-id", "refresh-token", "Chrome", 60000);
+
+        ArgumentCaptor<String> value = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(),
+                eq("session-id"), value.capture(), anyString(), anyString(), anyString());
+        assertThat(evicted).isEqualTo(1L);
+        assertThat(value.getValue()).doesNotContain("refresh-token").endsWith(":Chrome");
+        assertThat(value.getValue().substring(0, 43)).doesNotContain(":");
+    }
+
+    @Test
+    @DisplayName("refreshToken 교체 - 스크립트 결과를 교체/없음/재사용으로 구분")
+    void rotateRefreshToken_shouldMapScriptResult() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("jwt:sessions:1")),
+                eq("session-id"), anyString(), anyString(), anyString(), anyString(), eq("60000")))
+                .thenReturn(1L, 0L, -1L, null);
+
+        assertThat(jwtRedisService.rotateRefreshToken(1L, "session-id", "old", "new", 60000))
+                .isEqualTo(JwtRedisService.RefreshRotation.ROTATED);
+        assertThat(jwtRedisService.rotateRefreshToken(1L, "session-id", "old", "new", 60000))
+                .isEqualTo(JwtRedisService.RefreshRotation.NOT_FOUND);
+        assertThat(jwtRedisService.rotateRefreshToken(1L, "session-id", "old", "new", 60000))
+                .isEqualTo(JwtRedisService.RefreshRotation.REUSED);
+        assertThat(jwtRedisService.rotateRefreshToken(1L, "session-id", "old", "new", 60000))
+                .isEqualTo(JwtRedisService.RefreshRotation.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("세션 목록 - 만료되었거나 형식이 다른 값은 제외하고 최근 사용 순으로 반환")
+    void getSessions_shouldSkipExpiredAndSortByLastUsed() {
+        long now = System.currentTimeMillis();
+        Map<Object, Object> entries = new HashMap<>();
+        entries.put("old", "hash:" + (now - 3000) + ":" + (now - 2000) + ":" + (now + 60000) + ":Firefox");
+        entries.put("recent", "hash:" + (now - 3000) + ":" + (now - 1000) + ":" + (now + 60000) + ":Mozilla/5.0 (X11; Linux)");
+        entries.put("expired", "hash:" + (now - 3000) + ":" + (now - 3000) + ":" + (now - 1) + ":Safari");
+        entries.put("broken", "refresh-token");
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("jwt:sessions:1")).thenReturn(entries);
+
+        List<RefreshSession> sessions = jwtRedisService.getSessions(1L);
+
+        assertThat(sessions).extracting(RefreshSession::sessionId).containsExactly("recent", "old");
+        assertThat(sessions.get(0).device()).isEqualTo("Mozilla/5.0 (X11; Linux)");
+    }
+
+    @Test
+    @DisplayName("세션 하나만 삭제")
+    void revokeSession_shouldDeleteOnlyThatField() {
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(hashOperations.delete("jwt:sessions:1", "session-id")).thenReturn(1L);
+
+        assertThat(jwtRedisService.revokeSession(1L, "session-id")).isTrue();
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("끊은 세션 ID는 액세스 토큰 수명 동안 블랙리스트에 올림")
+    void revokeSession_shouldBlacklistSessionId() {
+        jwtProperties.setAccessExpiration(3600000L);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(hashOperations.delete("jwt:sessions:1", "session-id")).thenReturn(1L);
+
+        jwtRedisService.revokeSession(1L, "session-id");
+
+        verify(valueOperations).set(eq("jwt:blacklist:sid:session-id"), eq("true"), eq(3600000L), eq(TimeUnit.MILLISECONDS));
+        verify(nearCache).add(eq("sid:session-id"), anyLong());
+        verify(redisTemplate).convertAndSend(eq(JwtRedisService.BLACKLIST_CHANNEL), endsWith(":sid:session-id"));
+    }
+
+    @Test
+    @DisplayName("없는 세션은 블랙리스트에 올리지 않음")
+    void revokeSession_shouldNotBlacklistMissingSession() {
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.delete("jwt:sessions:1", "missing")).thenReturn(0L);
+
+        assertThat(jwtRedisService.revokeSession(1L, "missing")).isFalse();
+        verify(redisTemplate, never()).opsForValue();
     }
 
     @Test
-    @DisplayName("refreshToken 저장")
-    void saveRefreshToken_shouldSaveToRedis() {
-        jwtRedisService.saveRefreshToken(1L, "refresh-token", 60000);
+    @DisplayName("전체 세션 삭제 시 모든 세션 ID를 블랙리스트에 올림")
+    void revokeAllSessions_shouldBlacklistEverySessionId() {
+        jwtProperties.setAccessExpiration(3600000L);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(hashOperations.keys("jwt:sessions:1")).thenReturn(Set.of("a", "b"));
+
+        jwtRedisService.revokeAllSessions(1L);
 
-        verify(valueOperations).set(eq("jwt:refresh:1"), eq("refresh-token"), eq(60000L), eq(TimeUnit.MILLISECONDS));
+        verify(redisTemplate).delete("jwt:sessions:1");
+        verify(valueOperations).set(eq("jwt:blacklist:sid:a"), eq("true"), eq(3600000L), eq(TimeUnit.MILLISECONDS));
+        verify(valueOperations).set(eq("jwt:blacklist:sid:b"), eq("true"), eq(3600000L), eq(TimeUnit.MILLISECONDS));
     }
 
     @Test
-    @DisplayName("blacklistToken 저장")
+    @DisplayName("blacklistToken 저장 - jti를 키로 사용")
     void blacklistToken_shouldSaveToRedis() {
-        jwtRedisService.blacklistAccessToken("access-token", 60000);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        jwtRedisService.blacklistAccessToken(token(LEGACY_TOKEN, "token-id"), 60000);
+
+        verify(valueOperations).set(eq("jwt:blacklist:token-id"), eq("true"), eq(60000L), eq(TimeUnit.MILLISECONDS));
+        verify(nearCache).add(eq("token-id"), anyLong());
+        verify(redisTemplate).convertAndSend(eq(JwtRedisService.BLACKLIST_CHANNEL), endsWith(":token-id"));
+    }
+
+    @Test
+    @DisplayName("jti가 없는 토큰은 고정 길이 해시를 키로 사용")
+    void blacklistId_shouldHashTokenWithoutJti() {
+        String id = JwtRedisService.blacklistId(token(LEGACY_TOKEN, null));
+
+        assertThat(id).hasSize(43).doesNotContain(".");
+        assertThat(JwtRedisService.blacklistId(token(LEGACY_TOKEN, null))).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("near-cache가 확정하면 Redis를 조회하지 않음")
+    void isBlacklisted_shouldSkipRedisWhenNearCacheDecides() {
+        when(nearCache.check("clean-id")).thenReturn(BlacklistNearCache.Result.NOT_REVOKED);
+        when(nearCache.check("revoked-id")).thenReturn(BlacklistNearCache.Result.REVOKED);
+
+        assertThat(jwtRedisService.isBlacklisted(token(LEGACY_TOKEN, "clean-id"))).isFalse();
+        assertThat(jwtRedisService.isBlacklisted(token(LEGACY_TOKEN, "revoked-id"))).isTrue();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("near-cache가 판단하지 못하면 Redis 조회")
+    void isBlacklisted_shouldFallBackToRedisWhenUnknown() {
+        when(nearCache.check("token-id")).thenReturn(BlacklistNearCache.Result.UNKNOWN);
+        when(redisTemplate.hasKey("jwt:blacklist:token-id")).thenReturn(true);
+
+        assertThat(jwtRedisService.isBlacklisted(token(LEGACY_TOKEN, "token-id"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("마이그레이션 모드에서는 이전 형식 키도 함께 확인")
+    void isBlacklisted_shouldCheckLegacyKeyInMigrationMode() {
+        jwtProperties.getBlacklist().setLegacyKeyFallback(true);
+        VerifiedToken legacy = token(LEGACY_TOKEN, null);
+        String hashedKey = "jwt:blacklist:" + JwtRedisService.blacklistId(legacy);
+
+        when(nearCache.check(anyString())).thenReturn(BlacklistNearCache.Result.UNKNOWN);
+        when(redisTemplate.countExistingKeys(List.of(hashedKey, "jwt:blacklist:" + LEGACY_TOKEN))).thenReturn(1L);
+
+        assertThat(jwtRedisService.isBlacklisted(legacy)).isTrue();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("near-cache에서 세션이 끊긴 것으로 확인되면 Redis 없이 차단")
+    void isBlacklisted_shouldRejectRevokedSessionFromNearCache() {
+        when(nearCache.check("token-id")).thenReturn(BlacklistNearCache.Result.NOT_REVOKED);
+        when(nearCache.check("sid:session-id")).thenReturn(BlacklistNearCache.Result.REVOKED);
+
+        assertThat(jwtRedisService.isBlacklisted(token(LEGACY_TOKEN, "token-id", "session-id"))).isTrue();
+        verify(redisTemplate, never()).hasKey(anyString());
+        verify(redisTemplate, never()).countExistingKeys(anyList());
+    }
+
+    @Test
+    @DisplayName("near-cache가 판단하지 못하면 토큰과 세션 키를 한 번에 조회")
+    void isBlacklisted_shouldCheckTokenAndSessionKeysTogether() {
+        when(nearCache.check(anyString())).thenReturn(BlacklistNearCache.Result.UNKNOWN);
+        when(redisTemplate.countExistingKeys(List.of("jwt:blacklist:token-id", "jwt:blacklist:sid:session-id")))
+                .thenReturn(1L);
+
+        assertThat(jwtRedisService.isBlacklisted(token(LEGACY_TOKEN, "token-id", "session-id"))).isTrue();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    private VerifiedToken token(String raw, String jti) {
+        return token(raw, jti, null);
+    }
 
-        verify(valueOperations).set(eq("jwt:blacklist:access-token"), eq("true"), eq(60000L), eq(TimeUnit.MILLISECONDS));
+    private VerifiedToken token(String raw, String jti, String sessionId) {
+        Instant now = Instant.now();
+        return new VerifiedToken(raw, 1L, now, now.plusSeconds(60), jti, null, null, sessionId);
     }
-}
\ No newline at end of file
+}
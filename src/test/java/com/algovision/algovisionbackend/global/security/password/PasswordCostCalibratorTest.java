@@ -0,0 +1,43 @@
+package com.algovision.algovisionbackend.global.security.password;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordCostCalibratorTest {
+
+    @Test
+    @DisplayName("목표 시간 안에 드는 가장 큰 cost를 권장")
+    void recommend_largestWithinTarget() {
+        Map<Integer, Duration> measured = new LinkedHashMap<>();
+        measured.put(10, Duration.ofMillis(60));
+        measured.put(11, Duration.ofMillis(95));
+        measured.put(12, Duration.ofMillis(190));
+
+        assertThat(PasswordCostCalibrator.recommend(measured, Duration.ofMillis(100))).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("모두 목표 시간을 넘으면 가장 작은 cost를 권장")
+    void recommend_smallestWhenAllExceed() {
+        Map<Integer, Duration> measured = new LinkedHashMap<>();
+        measured.put(10, Duration.ofMillis(150));
+        measured.put(11, Duration.ofMillis(300));
+
+        assertThat(PasswordCostCalibrator.recommend(measured, Duration.ofMillis(100))).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("목표의 4배를 넘는 cost 이후로는 측정하지 않음")
+    void measure_stopsAfterTooSlowCost() {
+        Map<Integer, Duration> measured = new PasswordCostCalibrator(new PasswordHashingProperties())
+                .measure(4, 8, Duration.ZERO);
+
+        assertThat(measured).containsOnlyKeys(4);
+    }
+}
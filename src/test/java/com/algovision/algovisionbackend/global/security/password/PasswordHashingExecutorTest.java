@@ -0,0 +1,130 @@
+package com.algovision.algovisionbackend.global.security.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.stop();
+    }
+
+    @Test
+    @DisplayName("작업 결과를 돌려주고 지연 시간을 기록")
+    void execute_returnsResult() {
+        executor = new PasswordHashingExecutor(properties(1, 1, Duration.ofSeconds(1)), meterRegistry);
+
+        assertThat(executor.execute(PasswordHashingOperation.ENCODE, () -> "hash")).isEqualTo("hash");
+        assertThat(meterRegistry.get("password.hashing.latency").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지연 시간 타이머는 생성 시 작업 종류별로 한 번만 등록")
+    void constructor_registersLatencyTimers() {
+        executor = new PasswordHashingExecutor(properties(1, 1, Duration.ofSeconds(1)), meterRegistry);
+
+        assertThat(meterRegistry.get("password.hashing.latency").timers())
+                .hasSize(PasswordHashingOperation.values().length);
+
+        executor.execute(PasswordHashingOperation.MATCHES, () -> true);
+        executor.execute(PasswordHashingOperation.MATCHES, () -> true);
+
+        assertThat(meterRegistry.get("password.hashing.latency").timers())
+                .hasSize(PasswordHashingOperation.values().length);
+        assertThat(meterRegistry.get("password.hashing.latency").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 거절")
+    void execute_rejectsWhenQueueFull() throws InterruptedException {
+        executor = new PasswordHashingExecutor(properties(1, 1, Duration.ofSeconds(5)), meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        Thread.ofVirtual().start(() -> executor.execute(PasswordHashingOperation.MATCHES, () -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        started.await(1, TimeUnit.SECONDS);
+        Thread.ofVirtual().start(() -> executor.execute(PasswordHashingOperation.MATCHES, () -> true));
+        waitForQueued();
+
+        assertThatThrownBy(() -> executor.execute(PasswordHashingOperation.MATCHES, () -> true))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘기면 거절")
+    void execute_rejectsOnTimeout() {
+        executor = new PasswordHashingExecutor(properties(1, 1, Duration.ofMillis(50)), meterRegistry);
+
+        assertThatThrownBy(() -> executor.execute(PasswordHashingOperation.ENCODE, () -> release.await(5, TimeUnit.SECONDS)))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("reason", "timeout").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인터럽트를 무시하는 작업이 스레드를 잡고 있어도 제한 시간을 넘긴 대기 작업은 대기열에서 치운다")
+    void execute_purgesTimedOutQueuedTask() throws InterruptedException {
+        executor = new PasswordHashingExecutor(properties(1, 1, Duration.ofMillis(50)), meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        Thread.ofVirtual().start(() -> executor.execute(PasswordHashingOperation.ENCODE, () -> {
+            started.countDown();
+            // BCrypt처럼 인터럽트를 확인하지 않는 작업
+            while (release.getCount() > 0) {
+                Thread.onSpinWait();
+            }
+            return "hash";
+        }));
+        started.await(1, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> executor.execute(PasswordHashingOperation.ENCODE, () -> "queued"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(executor.queueSize()).isZero();
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("reason", "queue_full").counter().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 런타임 예외는 그대로 전파")
+    void execute_propagatesRuntimeException() {
+        executor = new PasswordHashingExecutor(properties(1, 1, Duration.ofSeconds(1)), meterRegistry);
+
+        assertThatThrownBy(() -> executor.execute(PasswordHashingOperation.MATCHES, () -> {
+            throw new IllegalArgumentException("bad hash");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("bad hash");
+    }
+
+    private void waitForQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (executor.queueSize() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private PasswordHashingProperties properties(int threads, int queueCapacity, Duration timeout) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeout(timeout);
+        return properties;
+    }
+}
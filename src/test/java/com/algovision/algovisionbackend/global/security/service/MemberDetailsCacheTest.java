@@ -0,0 +1,99 @@
+package com.algovision.algovisionbackend.global.security.service;
+
+import com.algovision.algovisionbackend.global.security.config.AuthProperties;
+import com.algovision.algovisionbackend.modules.auth.domain.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberDetailsCacheTest {
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final Function<Long, UserDetails> loader = id -> {
+        loadCount.incrementAndGet();
+        return new CustomUserDetails(Member.builder()
+                .id(id)
+                .email(id + "@test.com")
+                .nickname("nickname" + id)
+                .passwordHash("passwordHash")
+                .build());
+    };
+
+    private MemberDetailsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MemberDetailsCache(properties(2, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("같은 회원은 두 번째 조회부터 캐시에서 반환")
+    void get_shouldLoadOnce() {
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("evict 후에는 다시 조회")
+    void evict_shouldReload() {
+        cache.get(1L, loader);
+        cache.evict(1L);
+        cache.get(1L, loader);
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("조회 중에 evict되면 조회 결과를 캐시에 저장하지 않음")
+    void get_shouldNotCacheWhenEvictedDuringLoad() {
+        cache.get(1L, id -> {
+            cache.evict(id);
+            return loader.apply(id);
+        });
+        cache.get(1L, loader);
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 제거")
+    void get_shouldEvictLeastRecentlyUsed() {
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+        cache.get(1L, loader);
+        cache.get(3L, loader);
+
+        cache.get(1L, loader);
+        assertThat(loadCount).hasValue(3);
+
+        cache.get(2L, loader);
+        assertThat(loadCount).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 조회")
+    void get_shouldReloadAfterTtl() {
+        cache = new MemberDetailsCache(properties(2, Duration.ZERO));
+
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    private AuthProperties properties(int maxSize, Duration ttl) {
+        AuthProperties properties = new AuthProperties();
+        properties.getMemberCache().setMaxSize(maxSize);
+        properties.getMemberCache().setTtl(ttl);
+        return properties;
+    }
+}
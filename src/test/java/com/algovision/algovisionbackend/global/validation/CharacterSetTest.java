@@ -0,0 +1,56 @@
+package com.algovision.algovisionbackend.global.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CharacterSetTest {
+
+    @Test
+    @DisplayName("기본 닉네임 문자 집합은 기존 정규식과 모든 BMP 문자에서 같은 결과를 낸다")
+    void defaultNicknameSet_matchesRegex() {
+        CharacterSet set = CharacterSet.of("a-zA-Z0-9가-힣_\\-.");
+        Pattern regex = Pattern.compile("[a-zA-Z0-9가-힣_\\-.]");
+
+        for (int cp = 0; cp < 0x10000; cp++) {
+            if (Character.isSurrogate((char) cp)) {
+                continue;
+            }
+            assertThat(set.contains(cp))
+                    .as("U+%04X", cp)
+                    .isEqualTo(regex.matcher(Character.toString(cp)).matches());
+        }
+    }
+
+    @Test
+    @DisplayName("문자 수는 surrogate pair를 한 글자로 센다")
+    void countsCodePoints() {
+        CharacterSet set = CharacterSet.of("a-z😀-🙏");
+
+        assertThat(set.countIfAllAllowed("ab😊")).isEqualTo(3);
+        assertThat(set.countIfAllAllowed("ab\uD83D")).isEqualTo(-1);
+        assertThat(set.countIfAllAllowed("aB")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("이스케이프한 '-'와 양 끝의 '-'는 문자 그대로다")
+    void literalDash() {
+        CharacterSet set = CharacterSet.of("-a\\-c-");
+
+        assertThat(set.contains('-')).isTrue();
+        assertThat(set.contains('a')).isTrue();
+        assertThat(set.contains('b')).isFalse();
+        assertThat(set.contains('c')).isTrue();
+    }
+
+    @Test
+    @DisplayName("거꾸로 된 범위와 끝나지 않은 이스케이프는 거절한다")
+    void invalidDefinition() {
+        assertThatThrownBy(() -> CharacterSet.of("z-a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CharacterSet.of("a\\")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
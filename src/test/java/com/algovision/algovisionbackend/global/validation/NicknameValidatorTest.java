@@ -33,6 +33,9 @@ class NicknameValidatorTest {
     record NickDtoAllowBlank(@Nickname(allowBlank = true) String nickname) {
     }
 
+    record NickDtoLowercase(@Nickname(min = 3, max = 5, allowed = "a-z") String nickname) {
+    }
+
     @Nested
     @DisplayName("유효한 케이스")
     class Valid {
@@ -51,6 +54,20 @@ class NicknameValidatorTest {
             assertThat(violations).isEmpty();
         }
 
+        @Test
+        void 최대길이는_UTF16이_아닌_문자수로_센다() {
+            var dto = new NickDto("가".repeat(20));
+            var violations = validator.validate(dto);
+            assertThat(violations).isEmpty();
+        }
+
+        @Test
+        void 허용문자를_지정하면_그_집합으로_검사() {
+            var dto = new NickDtoLowercase("abcde");
+            var violations = validator.validate(dto);
+            assertThat(violations).isEmpty();
+        }
+
         @Test
         void 공백허용옵션_true면_공백_통과() {
             var dto = new NickDtoAllowBlank("     ");
@@ -92,6 +109,14 @@ class NicknameValidatorTest {
             assertThat(violations).isNotEmpty();
         }
 
+        @ParameterizedTest
+        @ValueSource(strings = {"ab", "abcdef", "abC", "ab1"})
+        void 지정한_허용문자와_길이_위반(String nick) {
+            var dto = new NickDtoLowercase(nick);
+            var violations = validator.validate(dto);
+            assertThat(violations).isNotEmpty();
+        }
+
         @Test
         void NotBlank와_조합시_null_blank_잡힘() {
             var dto = new NickDtoRequired("    ");
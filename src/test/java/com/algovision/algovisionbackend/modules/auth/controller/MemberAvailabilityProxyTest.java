@@ -0,0 +1,52 @@
+package com.algovision.algovisionbackend.modules.auth.controller;
+
+import com.algovision.algovisionbackend.config.MockRedisConfig;
+import com.algovision.algovisionbackend.modules.auth.dto.CheckEmailRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 Tomcat으로 띄워 프록시 뒤에서도 클라이언트 IP별로 요청 제한이 적용되는지 확인한다.
+ * 테스트 요청은 루프백(신뢰하는 프록시)에서 오므로 X-Forwarded-For가 클라이언트 IP로 쓰인다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "member.availability.rate-limit.limit=1"
+)
+@ActiveProfiles("test-docs")
+@Import(MockRedisConfig.class)
+class MemberAvailabilityProxyTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("프록시 뒤의 서로 다른 클라이언트 IP는 각각 제한된다.")
+    void checkEmail_rateLimitedPerForwardedClient() {
+        assertThat(checkEmail("203.0.113.1").getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(checkEmail("203.0.113.2").getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(checkEmail("203.0.113.1").getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(checkEmail("203.0.113.2").getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private ResponseEntity<String> checkEmail(String clientIp) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", clientIp);
+        return restTemplate.postForEntity("/api/members/check-email",
+                new HttpEntity<>(new CheckEmailRequest("new@test.com"), headers), String.class);
+    }
+}
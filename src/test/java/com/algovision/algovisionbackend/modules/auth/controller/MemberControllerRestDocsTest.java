@@ -1,9 +1,14 @@
 package com.algovision.algovisionbackend.modules.auth.controller;
 
 import com.algovision.algovisionbackend.config.MockRedisConfig;
+import com.algovision.algovisionbackend.global.security.jwt.dto.RefreshSession;
+import com.algovision.algovisionbackend.global.security.jwt.service.JwtRedisService;
 import com.algovision.algovisionbackend.modules.auth.domain.Member;
 import com.algovision.algovisionbackend.modules.auth.dto.ChangePasswordRequest;
+import com.algovision.algovisionbackend.modules.auth.dto.CheckEmailRequest;
+import com.algovision.algovisionbackend.modules.auth.dto.CheckNicknameRequest;
 import com.algovision.algovisionbackend.modules.auth.dto.LoginRequest;
+import com.algovision.algovisionbackend.modules.auth.dto.RefreshTokenRequest;
 import com.algovision.algovisionbackend.modules.auth.dto.SignUpRequest;
 import com.algovision.algovisionbackend.modules.auth.dto.UpdateNicknameRequest;
 import com.algovision.algovisionbackend.modules.auth.repository.MemberRepository;
@@ -27,13 +32,20 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -59,7 +71,11 @@ class MemberControllerRestDocsTest {
     @MockitoSpyBean
     private EmailService emailService;
 
+    @MockitoSpyBean
+    private JwtRedisService jwtRedisService;
+
     String accessToken;
+    String refreshToken;
 
     @BeforeEach
     void setup() throws Exception {
@@ -80,6 +96,7 @@ class MemberControllerRestDocsTest {
         String responseJson = result.getResponse().getContentAsString();
         JsonNode root = objectMapper.readTree(responseJson);
         accessToken = root.path("accessToken").asText();
+        refreshToken = root.path("refreshToken").asText();
     }
 
     @Test
@@ -119,6 +136,52 @@ class MemberControllerRestDocsTest {
                 ));
     }
 
+    @Test
+    @DisplayName("이메일 중복 확인 - REST Docs 생성")
+    void checkEmail_generateDocs() throws Exception {
+        CheckEmailRequest request = new CheckEmailRequest("new@test.com");
+
+        mockMvc.perform(post("/api/members/check-email")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(true))
+                .andDo(print())
+                .andDo(document("members-check-email",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestFields(
+                                fieldWithPath("email").type(JsonFieldType.STRING).description("확인할 이메일")
+                        ),
+                        responseFields(
+                                fieldWithPath("available").type(JsonFieldType.BOOLEAN).description("사용 가능 여부")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("닉네임 중복 확인 - 사용 중 - REST Docs 생성")
+    void checkNickname_taken_generateDocs() throws Exception {
+        CheckNicknameRequest request = new CheckNicknameRequest("nickname");
+
+        mockMvc.perform(post("/api/members/check-nickname")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(false))
+                .andDo(print())
+                .andDo(document("members-check-nickname",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestFields(
+                                fieldWithPath("nickname").type(JsonFieldType.STRING).description("확인할 닉네임")
+                        ),
+                        responseFields(
+                                fieldWithPath("available").type(JsonFieldType.BOOLEAN).description("사용 가능 여부")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("로그인 성공 - REST Docs 생성")
     void login_success_generateDocs() throws Exception {
@@ -144,7 +207,64 @@ class MemberControllerRestDocsTest {
                                 fieldWithPath("member.role").type(JsonFieldType.STRING).description("회원 권한 (USER / ADMIN)"),
                                 fieldWithPath("member.createdAt").type(JsonFieldType.STRING).description("생성 일시"),
                                 fieldWithPath("member.updatedAt").type(JsonFieldType.STRING).description("수정 일시"),
-                                fieldWithPath("accessToken").type(JsonFieldType.STRING).description("JWT 액세스 토큰")
+                                fieldWithPath("accessToken").type(JsonFieldType.STRING).description("JWT 액세스 토큰"),
+                                fieldWithPath("refreshToken").type(JsonFieldType.STRING).description("JWT refresh 토큰 (재발급 시 한 번만 사용 가능)")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 성공 - REST Docs 생성")
+    void refresh_success_generateDocs() throws Exception {
+        doReturn(JwtRedisService.RefreshRotation.ROTATED)
+                .when(jwtRedisService).rotateRefreshToken(anyLong(), anyString(), anyString(), anyString(), anyLong());
+
+        mockMvc.perform(post("/api/members/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andDo(document("members-refresh-success",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestFields(
+                                fieldWithPath("refreshToken").type(JsonFieldType.STRING).description("로그인 또는 직전 재발급에서 받은 refresh 토큰")
+                        ),
+                        responseFields(
+                                subsectionWithPath("member").description("회원 정보"),
+                                fieldWithPath("member.id").type(JsonFieldType.NUMBER).description("회원 ID"),
+                                fieldWithPath("member.email").type(JsonFieldType.STRING).description("회원 이메일"),
+                                fieldWithPath("member.nickname").type(JsonFieldType.STRING).description("회원 닉네임"),
+                                fieldWithPath("member.role").type(JsonFieldType.STRING).description("회원 권한 (USER / ADMIN)"),
+                                fieldWithPath("member.createdAt").type(JsonFieldType.STRING).description("생성 일시"),
+                                fieldWithPath("member.updatedAt").type(JsonFieldType.STRING).description("수정 일시"),
+                                fieldWithPath("accessToken").type(JsonFieldType.STRING).description("새 JWT 액세스 토큰"),
+                                fieldWithPath("refreshToken").type(JsonFieldType.STRING).description("새 refresh 토큰. 이전 토큰은 더 이상 사용할 수 없음")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 이미 사용된 refresh 토큰 - REST Docs 생성")
+    void refresh_fail_reused_generateDocs() throws Exception {
+        doReturn(JwtRedisService.RefreshRotation.REUSED)
+                .when(jwtRedisService).rotateRefreshToken(anyLong(), anyString(), anyString(), anyString(), anyLong());
+
+        mockMvc.perform(post("/api/members/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isUnauthorized())
+                .andDo(print())
+                .andDo(document("members-refresh-fail-reused",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestFields(
+                                fieldWithPath("refreshToken").type(JsonFieldType.STRING).description("이미 교체된 refresh 토큰")
+                        ),
+                        responseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("HTTP 상태 코드"),
+                                fieldWithPath("message").type(JsonFieldType.STRING).description("오류 메시지"),
+                                fieldWithPath("traceId").type(JsonFieldType.STRING).description("요청 추적용 Trace ID")
                         )
                 ));
     }
@@ -378,6 +498,83 @@ class MemberControllerRestDocsTest {
                 ));
     }
 
+    @Test
+    @DisplayName("세션 목록 조회 성공 - REST Docs 생성")
+    void getSessions_success_generateDocs() throws Exception {
+        Instant now = Instant.now();
+        doReturn(List.of(
+                new RefreshSession("1f0c9f7e-5b7a-4a53-9d4e-2d4b8f0c1a11", "Mozilla/5.0 (Macintosh)",
+                        now.minusSeconds(3600), now, now.plusSeconds(1209600)),
+                new RefreshSession("7c2e4b1d-0a9f-4e3c-8b6d-5f1a2c3d4e55", "AlgoVision-Android/1.0",
+                        now.minusSeconds(86400), now.minusSeconds(7200), now.plusSeconds(1202400))
+        )).when(jwtRedisService).getSessions(anyLong());
+
+        mockMvc.perform(get("/api/members/sessions")
+                        .header("Authorization", String.format("Bearer %s", accessToken)))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andDo(document("members-sessions-success",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        responseFields(
+                                fieldWithPath("[].sessionId").type(JsonFieldType.STRING).description("세션 ID"),
+                                fieldWithPath("[].device").type(JsonFieldType.STRING).description("로그인한 기기 (User-Agent)").optional(),
+                                fieldWithPath("[].createdAt").type(JsonFieldType.STRING).description("로그인 일시"),
+                                fieldWithPath("[].lastUsedAt").type(JsonFieldType.STRING).description("마지막 토큰 재발급 일시"),
+                                fieldWithPath("[].expiresAt").type(JsonFieldType.STRING).description("세션 만료 일시"),
+                                fieldWithPath("[].current").type(JsonFieldType.BOOLEAN).description("현재 요청을 보낸 세션인지 여부")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("세션 종료 성공 - REST Docs 생성")
+    void revokeSession_success_generateDocs() throws Exception {
+        doReturn(true).when(jwtRedisService).revokeSession(anyLong(), anyString());
+
+        mockMvc.perform(delete("/api/members/sessions/{sessionId}", "7c2e4b1d-0a9f-4e3c-8b6d-5f1a2c3d4e55")
+                        .header("Authorization", String.format("Bearer %s", accessToken)))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andDo(document("members-sessions-revoke-success",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())
+                ));
+    }
+
+    @Test
+    @DisplayName("세션 종료 실패 - 존재하지 않는 세션 - REST Docs 생성")
+    void revokeSession_fail_notFound_generateDocs() throws Exception {
+        doReturn(false).when(jwtRedisService).revokeSession(anyLong(), anyString());
+
+        mockMvc.perform(delete("/api/members/sessions/{sessionId}", "unknown-session")
+                        .header("Authorization", String.format("Bearer %s", accessToken)))
+                .andExpect(status().isNotFound())
+                .andDo(print())
+                .andDo(document("members-sessions-revoke-fail-notfound",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        responseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER).description("HTTP 상태 코드"),
+                                fieldWithPath("message").type(JsonFieldType.STRING).description("오류 메시지"),
+                                fieldWithPath("traceId").type(JsonFieldType.STRING).description("요청 추적용 Trace ID")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("모든 기기 로그아웃 성공 - REST Docs 생성")
+    void revokeAllSessions_success_generateDocs() throws Exception {
+        mockMvc.perform(delete("/api/members/sessions")
+                        .header("Authorization", String.format("Bearer %s", accessToken)))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andDo(document("members-sessions-revoke-all-success",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint())
+                ));
+    }
+
     @Test
     @DisplayName("회원 탈퇴 성공 - REST Docs 생성")
     void withdraw_success_generateDocs() throws Exception {
@@ -0,0 +1,67 @@
+package com.algovision.algovisionbackend.modules.auth.repository;
+
+import com.algovision.algovisionbackend.modules.auth.config.MemberSearchProperties;
+import com.algovision.algovisionbackend.modules.auth.dto.MemberSearchCondition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberCountCacheTest {
+
+    private final AtomicInteger countQueries = new AtomicInteger();
+    private final LongSupplier counter = () -> {
+        countQueries.incrementAndGet();
+        return 42L;
+    };
+
+    @Test
+    @DisplayName("대소문자만 다른 검색 조건은 COUNT 결과를 공유")
+    void get_shouldShareNormalizedKey() {
+        MemberCountCache cache = new MemberCountCache(properties(10, Duration.ofMinutes(1)));
+
+        assertThat(cache.get(condition("Alice"), counter)).isEqualTo(42L);
+        assertThat(cache.get(condition("alice"), counter)).isEqualTo(42L);
+
+        assertThat(countQueries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 COUNT를 다시 실행")
+    void get_shouldRecountAfterTtl() {
+        MemberCountCache cache = new MemberCountCache(properties(10, Duration.ZERO));
+
+        cache.get(condition("alice"), counter);
+        cache.get(condition("alice"), counter);
+
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("다른 검색 조건은 별도로 COUNT")
+    void get_shouldCountDifferentConditionsSeparately() {
+        MemberCountCache cache = new MemberCountCache(properties(10, Duration.ofMinutes(1)));
+
+        cache.get(condition("alice"), counter);
+        cache.get(condition("bob"), counter);
+
+        assertThat(countQueries).hasValue(2);
+    }
+
+    private MemberSearchCondition condition(String nickname) {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setNickname(nickname);
+        return condition;
+    }
+
+    private MemberSearchProperties properties(int maxSize, Duration ttl) {
+        MemberSearchProperties properties = new MemberSearchProperties();
+        properties.getCountCache().setMaxSize(maxSize);
+        properties.getCountCache().setTtl(ttl);
+        return properties;
+    }
+}
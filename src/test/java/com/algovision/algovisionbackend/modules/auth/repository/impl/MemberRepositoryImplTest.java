@@ -2,6 +2,10 @@ package com.algovision.algovisionbackend.modules.auth.repository.impl;
 
 import com.algovision.algovisionbackend.config.QueryDslConfig;
 import com.algovision.algovisionbackend.modules.auth.domain.Member;
+import com.algovision.algovisionbackend.modules.auth.dto.MemberCursorPage;
+import com.algovision.algovisionbackend.modules.auth.dto.MemberResponse;
+import com.algovision.algovisionbackend.modules.auth.dto.MemberSearchCondition;
+import com.algovision.algovisionbackend.modules.auth.exception.InvalidCursorException;
 import com.algovision.algovisionbackend.modules.auth.repository.MemberRepository;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
@@ -9,10 +13,20 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -112,4 +126,174 @@ class MemberRepositoryImplTest {
         assertThat(updated.getNickname()).isEqualTo("newNickname");
         assertThat(prevUpdatedAt).isNotEqualTo(curUpdatedAt);
     }
+
+    @Test
+    @DisplayName("커서 검색은 (createdAt, id) 내림차순으로 중복 없이 끝까지 순회한다.")
+    void searchByCursor_iteratesAllPagesWithoutDuplicates() {
+        for (int i = 0; i < 5; i++) {
+            memberRepository.save(Member.builder()
+                    .email("user" + i + "@test.com")
+                    .nickname("nickname" + i)
+                    .passwordHash("passwordHash")
+                    .build());
+        }
+        em.flush();
+        em.clear();
+
+        MemberSearchCondition condition = new MemberSearchCondition();
+        List<MemberResponse> collected = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            MemberCursorPage page = memberRepository.searchByCursor(condition, cursor, 2);
+            collected.addAll(page.content());
+            cursor = page.nextCursor();
+            pages++;
+            assertThat(page.hasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(collected).extracting(MemberResponse::id).doesNotHaveDuplicates().hasSize(5);
+        assertThat(collected).isSortedAccordingTo(
+                Comparator.comparing(MemberResponse::createdAt).thenComparing(MemberResponse::id).reversed());
+    }
+
+    @Test
+    @DisplayName("커서 검색의 size가 1보다 작으면 1로 맞춘다.")
+    void searchByCursor_clampsNonPositiveSize() {
+        saveMembers(2);
+
+        for (int size : new int[]{0, -1}) {
+            MemberCursorPage page = memberRepository.searchByCursor(new MemberSearchCondition(), null, size);
+
+            assertThat(page.content()).hasSize(1);
+            assertThat(page.hasNext()).isTrue();
+            assertThat(page.nextCursor()).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("커서 검색의 size가 상한을 넘으면 상한만큼만 조회한다.")
+    void searchByCursor_clampsOversizedSize() {
+        saveMembers(101);
+
+        MemberCursorPage page = memberRepository.searchByCursor(new MemberSearchCondition(), null, Integer.MAX_VALUE);
+
+        assertThat(page.content()).hasSize(100);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("남은 회원 수와 size가 같으면 다음 커서 없이 끝난다.")
+    void searchByCursor_exactLastPage() {
+        saveMembers(2);
+
+        MemberCursorPage page = memberRepository.searchByCursor(new MemberSearchCondition(), null, 2);
+
+        assertThat(page.content()).hasSize(2);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 InvalidCursorException을 던진다.")
+    void searchByCursor_invalidCursor() {
+        assertThatThrownBy(() -> memberRepository.searchByCursor(new MemberSearchCondition(), "not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("searchSlice는 COUNT 없이 다음 페이지 존재 여부만 알려준다.")
+    void searchSlice_reportsHasNext() {
+        saveMembers(3);
+
+        Slice<MemberResponse> first = memberRepository.searchSlice(new MemberSearchCondition(), PageRequest.of(0, 2));
+        Slice<MemberResponse> last = memberRepository.searchSlice(new MemberSearchCondition(), PageRequest.of(1, 2));
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("search는 페이지 결과와 함께 전체 건수를 반환한다.")
+    void search_returnsTotalElements() {
+        saveMembers(3);
+
+        Page<MemberResponse> page = memberRepository.search(new MemberSearchCondition(), PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이메일이 중복되면 idx_member_email 위반으로 실패한다.")
+    void saveAndFlush_duplicateEmail_violatesNamedIndex() {
+        saveMembers(1);
+        Member duplicate = Member.builder()
+                .email("user0@test.com")
+                .nickname("other")
+                .passwordHash("passwordHash")
+                .build();
+
+        assertThatThrownBy(() -> memberRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .satisfies(e -> assertThat(e.getMessage().toLowerCase(Locale.ROOT)).contains(Member.EMAIL_UNIQUE_INDEX));
+    }
+
+    @Test
+    @DisplayName("findDuplicates는 이메일 또는 닉네임이 같은 회원을 반환한다.")
+    void findDuplicates_matchesEmailOrNickname() {
+        saveMembers(3);
+
+        List<MemberResponse> duplicates = memberRepository.findDuplicates("user0@test.com", "nickname1");
+
+        assertThat(duplicates).extracting(MemberResponse::email)
+                .containsExactlyInAnyOrder("user0@test.com", "user1@test.com");
+        assertThat(memberRepository.findDuplicates("new@test.com", "new")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가입 INSERT가 실패한 직후에도 findDuplicates로 중복 원인을 조회할 수 있다.")
+    void findDuplicates_afterFailedInsert() {
+        saveMembers(1);
+        Member duplicate = Member.builder()
+                .email("user0@test.com")
+                .nickname("other")
+                .passwordHash("passwordHash")
+                .build();
+        assertThatThrownBy(() -> memberRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        List<MemberResponse> duplicates = memberRepository.findDuplicates("user0@test.com", "other");
+
+        assertThat(duplicates).extracting(MemberResponse::email).containsExactly("user0@test.com");
+    }
+
+    @Test
+    @DisplayName("updatePasswordHash는 저장된 해시가 예상과 같을 때만 바꾼다.")
+    void updatePasswordHash_onlyWhenCurrentHashMatches() {
+        saveMembers(1);
+        Long id = memberRepository.findMemberByEmail("user0@test.com").orElseThrow().getId();
+
+        assertThat(memberRepository.updatePasswordHash(id, "staleHash", "{bcrypt}newHash")).isZero();
+        assertThat(memberRepository.updatePasswordHash(id, "passwordHash", "{bcrypt}newHash")).isEqualTo(1);
+        em.clear();
+
+        assertThat(memberRepository.findById(id).orElseThrow().getPasswordHash()).isEqualTo("{bcrypt}newHash");
+    }
+
+    private void saveMembers(int count) {
+        for (int i = 0; i < count; i++) {
+            memberRepository.save(Member.builder()
+                    .email("user" + i + "@test.com")
+                    .nickname("nickname" + i)
+                    .passwordHash("passwordHash")
+                    .build());
+        }
+        em.flush();
+        em.clear();
+    }
 }
@@ -0,0 +1,104 @@
+package com.algovision.algovisionbackend.modules.auth.search;
+
+import com.algovision.algovisionbackend.modules.auth.config.MemberSearchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberSearchIndexTest {
+
+    private MemberSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        MemberSearchProperties properties = new MemberSearchProperties();
+        properties.getNgramIndex().setMaxCandidates(2);
+        index = new MemberSearchIndex(properties);
+
+        index.upsert(1L, "alice@test.com", "앨리스짱");
+        index.upsert(2L, "bob@test.com", "Bobby");
+        index.upsert(3L, "carol@example.com", "캐롤");
+        index.markReady();
+    }
+
+    @Test
+    @DisplayName("이메일 부분 문자열은 대소문자 구분 없이 후보로 찾는다")
+    void findCandidates_emailSubstring() {
+        assertThat(index.findCandidates("ALICE", null)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+        assertThat(index.findCandidates("example", null)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3L));
+    }
+
+    @Test
+    @DisplayName("한글 닉네임도 trigram으로 찾는다")
+    void findCandidates_koreanNickname() {
+        assertThat(index.findCandidates(null, "리스짱")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+    }
+
+    @Test
+    @DisplayName("이메일과 닉네임 조건은 모두 만족해야 한다")
+    void findCandidates_intersectsFields() {
+        assertThat(index.findCandidates("test", "bob")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+        assertThat(index.findCandidates("example", "bob")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    @DisplayName("닉네임을 바꾸면 이전 닉네임으로는 찾지 않는다")
+    void upsert_replacesOldNickname() {
+        index.upsert(2L, "bob@test.com", "Robert");
+
+        assertThat(index.findCandidates(null, "bobby")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+        assertThat(index.findCandidates(null, "robert")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+    }
+
+    @Test
+    @DisplayName("삭제한 회원은 후보에서 빠진다")
+    void remove_dropsMember() {
+        index.remove(1L);
+
+        assertThat(index.findCandidates("alice", null)).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("3자 미만 검색어, 적재 전, 후보 초과는 색인을 쓰지 않는다")
+    void findCandidates_fallsBackToDatabase() {
+        assertThat(index.findCandidates("al", "캐")).isEmpty();
+        assertThat(index.findCandidates(".com", null)).isEmpty();
+
+        index.markStale();
+        assertThat(index.findCandidates("alice", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("악센트는 콜레이션처럼 무시하고 찾는다")
+    void findCandidates_ignoresAccents() {
+        index.upsert(4L, "cafe@test.com", "Renée");
+
+        assertThat(index.findCandidates(null, "renee")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(4L));
+        assertThat(index.findCandidates("café", null)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(4L));
+    }
+
+    @Test
+    @DisplayName("접어도 ASCII/한글이 아닌 문자는 검색어면 DB로 넘기고, 저장된 값이면 항상 후보에 넣는다")
+    void findCandidates_unmodeledCharacters() {
+        assertThat(index.findCandidates(null, "æsir")).isEmpty();
+
+        index.upsert(4L, "ole@test.com", "Bjørn");
+        assertThat(index.findCandidates("carol", null)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3L, 4L));
+        assertThat(index.findCandidates("zzz", null)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(4L));
+
+        index.remove(4L);
+        assertThat(index.findCandidates("zzz", null)).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    @DisplayName("흔한 trigram만으로 된 검색어는 후보가 많아 DB 검색으로 넘긴다")
+    void findCandidates_commonGramFallsBack() {
+        index.upsert(4L, "dave@test.com", "데이브");
+
+        assertThat(index.findCandidates("test.com", null)).isEmpty();
+        assertThat(index.findCandidates("bob@test.com", null)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+    }
+}
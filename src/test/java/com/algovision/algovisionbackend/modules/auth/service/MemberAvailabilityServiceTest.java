@@ -0,0 +1,104 @@
+package com.algovision.algovisionbackend.modules.auth.service;
+
+import com.algovision.algovisionbackend.modules.auth.availability.MemberAvailabilityFilter;
+import com.algovision.algovisionbackend.modules.auth.config.MemberAvailabilityProperties;
+import com.algovision.algovisionbackend.modules.auth.exception.TooManyAvailabilityChecksException;
+import com.algovision.algovisionbackend.modules.auth.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberAvailabilityServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberAvailabilityProperties properties;
+    private MemberAvailabilityFilter filter;
+    private MemberAvailabilityService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MemberAvailabilityProperties();
+        properties.getFilter().setEnabled(true);
+        properties.getFilter().setExpectedInsertions(1_000);
+        properties.getRateLimit().setLimit(5);
+
+        filter = new MemberAvailabilityFilter(properties);
+        filter.upsert(1L, "Taken@test.com", "taken");
+        filter.markReady();
+
+        service = new MemberAvailabilityService(memberRepository, filter, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Bloom filter가 음성이면 DB 조회 없이 사용 가능")
+    void checkEmail_availableWithoutDatabase() {
+        assertThat(service.checkEmail("1.1.1.1", "new@test.com").available()).isTrue();
+
+        verify(memberRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("Bloom filter가 양성이면 DB로 확인 (대소문자 무시)")
+    void checkEmail_takenCheckedInDatabase() {
+        when(memberRepository.existsByEmail("taken@test.com")).thenReturn(true);
+
+        assertThat(service.checkEmail("1.1.1.1", "taken@test.com").available()).isFalse();
+    }
+
+    @Test
+    @DisplayName("악센트와 끝 공백은 DB 콜레이션처럼 무시해 Bloom filter 양성으로 본다")
+    void checkNickname_foldsLikeCollation() {
+        filter.upsert(2L, "cafe@test.com", "cafe");
+        when(memberRepository.existsByNickname(anyString())).thenReturn(true);
+        when(memberRepository.existsByEmail(anyString())).thenReturn(true);
+
+        assertThat(service.checkNickname("1.1.1.1", "Café").available()).isFalse();
+        assertThat(service.checkEmail("1.1.1.1", "taken@test.com ").available()).isFalse();
+        verify(memberRepository).existsByNickname("Café");
+    }
+
+    @Test
+    @DisplayName("접어도 ASCII/한글이 아닌 문자가 남으면 DB로 확인")
+    void checkNickname_unmodeledCharactersUseDatabase() {
+        when(memberRepository.existsByNickname("æsir")).thenReturn(false);
+
+        assertThat(service.checkNickname("1.1.1.1", "æsir").available()).isTrue();
+        verify(memberRepository).existsByNickname("æsir");
+    }
+
+    @Test
+    @DisplayName("적재 전에는 항상 DB로 확인")
+    void checkNickname_usesDatabaseBeforeReady() {
+        filter.markStale();
+        when(memberRepository.existsByNickname("fresh")).thenReturn(false);
+
+        assertThat(service.checkNickname("1.1.1.1", "fresh").available()).isTrue();
+        verify(memberRepository).existsByNickname("fresh");
+    }
+
+    @Test
+    @DisplayName("클라이언트별 한도를 넘으면 거절")
+    void checkNickname_rateLimitedPerClient() {
+        for (int i = 0; i < 5; i++) {
+            service.checkNickname("1.1.1.1", "nick" + i);
+        }
+
+        assertThatThrownBy(() -> service.checkNickname("1.1.1.1", "nick"))
+                .isInstanceOf(TooManyAvailabilityChecksException.class);
+        assertThat(service.checkNickname("2.2.2.2", "nick").available()).isTrue();
+    }
+}
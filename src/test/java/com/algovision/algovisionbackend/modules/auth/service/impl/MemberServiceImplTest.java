@@ -1,26 +1,38 @@
 package com.algovision.algovisionbackend.modules.auth.service.impl;
 
+import com.algovision.algovisionbackend.global.ratelimit.RateLimiter;
 import com.algovision.algovisionbackend.global.security.jwt.JwtProperties;
 import com.algovision.algovisionbackend.global.security.jwt.JwtProvider;
+import com.algovision.algovisionbackend.global.security.jwt.dto.VerifiedToken;
 import com.algovision.algovisionbackend.global.security.jwt.service.AuthTokenService;
 import com.algovision.algovisionbackend.global.security.jwt.service.JwtRedisService;
+import com.algovision.algovisionbackend.global.security.password.PasswordHashingBusyException;
+import com.algovision.algovisionbackend.global.security.service.MemberDetailsCache;
+import com.algovision.algovisionbackend.modules.auth.config.MemberSignupProperties;
 import com.algovision.algovisionbackend.modules.auth.domain.Member;
+import com.algovision.algovisionbackend.modules.auth.domain.MemberStatus;
 import com.algovision.algovisionbackend.modules.auth.domain.Role;
 import com.algovision.algovisionbackend.modules.auth.dto.*;
 import com.algovision.algovisionbackend.modules.auth.exception.*;
 import com.algovision.algovisionbackend.modules.auth.mapper.MemberMapper;
 import com.algovision.algovisionbackend.modules.auth.repository.MemberRepository;
+import com.algovision.algovisionbackend.modules.auth.service.PasswordHashUpgradeService;
+import com.algovision.algovisionbackend.modules.auth.sync.MemberChangeSync;
 import com.algovision.algovisionbackend.modules.email.exception.EmailNotVerifiedException;
 import com.algovision.algovisionbackend.modules.email.service.EmailService;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -45,14 +57,23 @@ class MemberServiceImplTest {
     @Mock
     private JwtProvider jwtProvider;
     @Mock
+    private MemberDetailsCache memberDetailsCache;
+    @Mock
+    private MemberChangeSync memberChangeSync;
+    @Mock
+    private RateLimiter rateLimiter;
+    @Mock
     private EmailService emailService;
+    @Mock
+    private PasswordHashUpgradeService passwordHashUpgradeService;
 
+    private final MemberSignupProperties signupProperties = new MemberSignupProperties();
     private AuthTokenService authTokenService;
     private MemberServiceImpl memberService;
 
     @BeforeEach
     void setUp() {
-        authTokenService = new AuthTokenService(jwtRedisService, jwtProvider);
+        authTokenService = new AuthTokenService(jwtRedisService);
         memberService = new MemberServiceImpl(
                 memberRepository,
                 memberMapper,
@@ -61,8 +82,14 @@ class MemberServiceImplTest {
                 authTokenService,
                 jwtProperties,
                 jwtProvider,
+                memberDetailsCache,
+                memberChangeSync,
+                signupProperties,
+                rateLimiter,
+                passwordHashUpgradeService,
                 emailService
         );
+        lenient().when(rateLimiter.tryAcquire(anyString(), anyString())).thenReturn(true);
     }
 
     @Test
@@ -76,14 +103,12 @@ class MemberServiceImplTest {
         );
 
         when(emailService.isEmailVerified(anyString())).thenReturn(true);
-        when(memberRepository.existsByEmail(anyString())).thenReturn(false);
-        when(memberRepository.existsByNickname(anyString())).thenReturn(false);
         Member saved = Member.builder()
                 .email(request.email())
                 .nickname(request.nickname())
                 .passwordHash(request.password())
                 .build();
-        when(memberRepository.save(any())).thenReturn(saved);
+        when(memberRepository.saveAndFlush(any())).thenReturn(saved);
         when(memberMapper.toResponse(saved)).thenReturn(new MemberResponse(
                 1L,
                 request.email(),
@@ -97,7 +122,9 @@ class MemberServiceImplTest {
         MemberResponse response = memberService.signup(request);
 
         assertNotNull(response);
-        verify(memberRepository).save(any(Member.class));
+        verify(memberRepository).saveAndFlush(any(Member.class));
+        verify(memberRepository, never()).findDuplicates(anyString(), anyString());
+        verify(memberChangeSync).memberChanged(saved);
     }
 
     @Test
@@ -116,7 +143,7 @@ class MemberServiceImplTest {
     }
 
     @Test
-    @DisplayName("회원가입 실패 - 이메일 중복")
+    @DisplayName("회원가입 실패 - 이메일 유니크 인덱스 위반")
     void signup_fail_to_exists_email() {
         SignUpRequest request = new SignUpRequest(
                 "test@test.com",
@@ -126,15 +153,18 @@ class MemberServiceImplTest {
         );
 
         when(emailService.isEmailVerified(anyString())).thenReturn(true);
-        when(memberRepository.existsByEmail(anyString())).thenReturn(true);
+        when(memberRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new ConstraintViolationException("Duplicate entry", null, "members.idx_member_email")
+        ));
 
         assertThrows(DuplicateEmailException.class, () -> memberService.signup(request));
 
-        verify(memberRepository, never()).save(any());
+        verify(memberChangeSync, never()).memberChanged(any());
     }
 
     @Test
-    @DisplayName("회원가입 실패 - 닉네임 중복")
+    @DisplayName("회원가입 실패 - 닉네임 유니크 인덱스 위반 (제약 조건 이름을 메시지에서 찾음)")
     void signup_fail_to_exists_nickname() {
         SignUpRequest request = new SignUpRequest(
                 "test@test.com",
@@ -144,12 +174,96 @@ class MemberServiceImplTest {
         );
 
         when(emailService.isEmailVerified(anyString())).thenReturn(true);
-        when(memberRepository.existsByEmail(anyString())).thenReturn(false);
-        when(memberRepository.existsByNickname(anyString())).thenReturn(true);
+        when(memberRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                "Unique index or primary key violation: \"PUBLIC.IDX_MEMBER_NICKNAME_INDEX_A ON PUBLIC.MEMBERS(NICKNAME)\""
+        ));
 
         assertThrows(DuplicateNicknameException.class, () -> memberService.signup(request));
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 알 수 없는 무결성 위반은 그대로 전파")
+    void signup_fail_unknown_integrity_violation() {
+        SignUpRequest request = new SignUpRequest(
+                "test@test.com",
+                "password123!",
+                "password123!",
+                "nickname"
+        );
+
+        when(emailService.isEmailVerified(anyString())).thenReturn(true);
+        when(memberRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("NOT NULL"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> memberService.signup(request));
+
+        verify(memberRepository).findDuplicates("test@test.com", "nickname");
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 인덱스 이름을 알 수 없으면 다시 조회해 중복 원인 판단")
+    void signup_fail_unrecognized_constraint_rechecks_duplicates() {
+        SignUpRequest request = new SignUpRequest(
+                "test@test.com",
+                "password123!",
+                "password123!",
+                "nickname"
+        );
+
+        when(emailService.isEmailVerified(anyString())).thenReturn(true);
+        when(memberRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new ConstraintViolationException("Duplicate entry", null, "members.UK6jeoixjx0yvhlpk3hpq5ay3nu")
+        ));
+        when(memberRepository.findDuplicates("test@test.com", "nickname")).thenReturn(List.of(new MemberResponse(
+                2L, "test@test.com", "other", Role.USER, LocalDateTime.now(), LocalDateTime.now()
+        )));
+
+        assertThrows(DuplicateEmailException.class, () -> memberService.signup(request));
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 사전 확인으로 해시 계산 전에 이메일 중복 차단")
+    void signup_fail_precheck_email() {
+        signupProperties.setPrecheckDuplicates(true);
+        SignUpRequest request = new SignUpRequest(
+                "test@test.com",
+                "password123!",
+                "password123!",
+                "nickname"
+        );
+
+        when(emailService.isEmailVerified(anyString())).thenReturn(true);
+        when(memberRepository.findDuplicates("test@test.com", "nickname")).thenReturn(List.of(new MemberResponse(
+                2L, "other@test.com", "nickname", Role.USER, LocalDateTime.now(), LocalDateTime.now()
+        ), new MemberResponse(
+                3L, "TEST@test.com", "other", Role.USER, LocalDateTime.now(), LocalDateTime.now()
+        )));
 
-        verify(memberRepository, never()).save(any());
+        assertThrows(DuplicateEmailException.class, () -> memberService.signup(request));
+
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(memberRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 사전 확인으로 닉네임 중복 차단")
+    void signup_fail_precheck_nickname() {
+        signupProperties.setPrecheckDuplicates(true);
+        SignUpRequest request = new SignUpRequest(
+                "test@test.com",
+                "password123!",
+                "password123!",
+                "nickname"
+        );
+
+        when(emailService.isEmailVerified(anyString())).thenReturn(true);
+        when(memberRepository.findDuplicates("test@test.com", "nickname")).thenReturn(List.of(new MemberResponse(
+                2L, "other@test.com", "nickname", Role.USER, LocalDateTime.now(), LocalDateTime.now()
+        )));
+
+        assertThrows(DuplicateNicknameException.class, () -> memberService.signup(request));
+
+        verify(memberRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -178,20 +292,128 @@ class MemberServiceImplTest {
 
         when(memberRepository.findMemberByEmail(anyString())).thenReturn(Optional.of(saved));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-        when(jwtProvider.generateAccessToken(anyLong())).thenReturn("accessToken");
-        when(jwtProvider.generateRefreshToken()).thenReturn("refreshToken");
+        when(jwtProvider.generateAccessToken(any(Member.class), anyString())).thenReturn("accessToken");
+        when(jwtProvider.generateRefreshToken(anyLong(), anyString())).thenReturn("refreshToken");
         when(memberMapper.toResponse(any())).thenReturn(member);
-        doNothing().when(jwtRedisService)
-                .saveRefreshToken(anyLong(), anyString(), anyLong());
 
-        AuthResponse response = memberService.login(request);
+        AuthResponse response = memberService.login(request, "test-agent", "1.1.1.1");
 
         assertNotNull(response);
         assertNotNull(response.member());
         assertNotNull(response.accessToken());
 
-        verify(jwtRedisService).saveRefreshToken(eq(1L), anyString(), anyLong());
-        verify(jwtProvider).generateAccessToken(eq(1L));
+        verify(jwtRedisService).createSession(eq(1L), anyString(), eq("refreshToken"), eq("test-agent"), anyLong());
+        verify(jwtProvider).generateAccessToken(eq(saved), anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 오래된 해시는 새 설정으로 다시 저장")
+    void login_success_upgradesPasswordHash() {
+        LoginRequest request = new LoginRequest("test@test.com", "password123!");
+        Member member = spy(Member.builder()
+                .id(1L)
+                .email(request.email())
+                .nickname("nickname")
+                .passwordHash("$2a$10$legacyHash")
+                .build());
+
+        when(memberRepository.findMemberByEmail(anyString())).thenReturn(Optional.of(member));
+        when(passwordEncoder.matches(request.password(), "$2a$10$legacyHash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("$2a$10$legacyHash")).thenReturn(true);
+        when(passwordEncoder.encode(request.password())).thenReturn("{bcrypt}$2a$12$newHash");
+        when(jwtProvider.generateAccessToken(any(Member.class), anyString())).thenReturn("accessToken");
+        when(jwtProvider.generateRefreshToken(anyLong(), anyString())).thenReturn("refreshToken");
+
+        memberService.login(request, "test-agent", "1.1.1.1");
+
+        verify(passwordHashUpgradeService).upgrade(1L, "$2a$10$legacyHash", "{bcrypt}$2a$12$newHash");
+        verify(member, never()).changePassword(anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 해시 갱신 저장에 실패해도 로그인은 성공")
+    void login_success_whenPasswordHashUpgradeFails() {
+        LoginRequest request = new LoginRequest("test@test.com", "password123!");
+        Member member = Member.builder()
+                .id(1L)
+                .email(request.email())
+                .nickname("nickname")
+                .passwordHash("$2a$10$legacyHash")
+                .build();
+
+        when(memberRepository.findMemberByEmail(anyString())).thenReturn(Optional.of(member));
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(anyString())).thenReturn(true);
+        when(passwordEncoder.encode(anyString())).thenReturn("{bcrypt}$2a$12$newHash");
+        when(passwordHashUpgradeService.upgrade(anyLong(), anyString(), anyString()))
+                .thenThrow(new DataIntegrityViolationException("Data too long for column 'password_hash'"));
+        when(jwtProvider.generateAccessToken(any(Member.class), anyString())).thenReturn("accessToken");
+        when(jwtProvider.generateRefreshToken(anyLong(), anyString())).thenReturn("refreshToken");
+
+        AuthResponse response = memberService.login(request, "test-agent", "1.1.1.1");
+
+        assertEquals("accessToken", response.accessToken());
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 해시 레인이 바쁘면 해시 갱신만 건너뜀")
+    void login_success_skipsUpgradeWhenHashingBusy() {
+        LoginRequest request = new LoginRequest("test@test.com", "password123!");
+        Member member = spy(Member.builder()
+                .id(1L)
+                .email(request.email())
+                .nickname("nickname")
+                .passwordHash("$2a$10$legacyHash")
+                .build());
+
+        when(memberRepository.findMemberByEmail(anyString())).thenReturn(Optional.of(member));
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(anyString())).thenReturn(true);
+        when(passwordEncoder.encode(anyString())).thenThrow(new PasswordHashingBusyException());
+        when(jwtProvider.generateAccessToken(any(Member.class), anyString())).thenReturn("accessToken");
+        when(jwtProvider.generateRefreshToken(anyLong(), anyString())).thenReturn("refreshToken");
+
+        assertDoesNotThrow(() -> memberService.login(request, "test-agent", "1.1.1.1"));
+
+        verify(passwordHashUpgradeService, never()).upgrade(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - 시도 횟수 초과")
+    void login_fail_to_too_many_attempts() {
+        LoginRequest request = new LoginRequest(
+                "Test@Test.com",
+                "password123!"
+        );
+
+        when(rateLimiter.tryAcquire("login", "1.1.1.1|test@test.com")).thenReturn(false);
+
+        assertThrows(TooManyLoginAttemptsException.class, () -> memberService.login(request, "test-agent", "1.1.1.1"));
+        verify(memberRepository, never()).findMemberByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - IP 한도를 넘으면 계정과 관계없이 차단")
+    void login_fail_to_too_many_attempts_from_ip() {
+        LoginRequest request = new LoginRequest("other@test.com", "password123!");
+
+        when(rateLimiter.tryAcquire("login-ip", "1.1.1.1")).thenReturn(false);
+
+        assertThrows(TooManyLoginAttemptsException.class, () -> memberService.login(request, "test-agent", "1.1.1.1"));
+        verify(rateLimiter, never()).tryAcquire(eq("login"), anyString());
+        verify(memberRepository, never()).findMemberByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 - 한 IP에서 막힌 계정도 다른 IP에서는 로그인 시도 가능")
+    void login_accountLimitIsPerClientIp() {
+        LoginRequest request = new LoginRequest("test@test.com", "password123!");
+
+        when(rateLimiter.tryAcquire("login", "6.6.6.6|test@test.com")).thenReturn(false);
+        when(memberRepository.findMemberByEmail("test@test.com")).thenReturn(Optional.empty());
+
+        assertThrows(TooManyLoginAttemptsException.class, () -> memberService.login(request, "test-agent", "6.6.6.6"));
+        assertThrows(InvalidLoginException.class, () -> memberService.login(request, "test-agent", "1.1.1.1"));
     }
 
     @Test
@@ -204,16 +426,12 @@ class MemberServiceImplTest {
 
         when(memberRepository.findMemberByEmail(anyString())).thenReturn(Optional.empty());
 
-        assertThrows(InvalidLoginException.class, () -> memberService.login(request));
+        assertThrows(InvalidLoginException.class, () -> memberService.login(request, "test-agent", "1.1.1.1"));
 
         verify(passwordEncoder, never()).matches(anyString(), anyString());
-        verify(jwtProvider, never()).generateAccessToken(anyLong());
-        verify(jwtProvider, never()).generateRefreshToken();
-        verify(jwtRedisService, never()).saveRefreshToken(
-                anyLong(),
-                anyString(),
-                anyLong()
-        );
+        verify(jwtProvider, never()).generateAccessToken(any(Member.class), anyString());
+        verify(jwtProvider, never()).generateRefreshToken(anyLong(), anyString());
+        verify(jwtRedisService, never()).createSession(anyLong(), anyString(), anyString(), anyString(), anyLong());
         verify(memberMapper, never()).toResponse(any());
     }
 
@@ -235,15 +453,11 @@ class MemberServiceImplTest {
         when(memberRepository.findMemberByEmail(anyString())).thenReturn(Optional.of(saved));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
 
-        assertThrows(InvalidLoginException.class, () -> memberService.login(request));
+        assertThrows(InvalidLoginException.class, () -> memberService.login(request, "test-agent", "1.1.1.1"));
 
-        verify(jwtProvider, never()).generateAccessToken(anyLong());
-        verify(jwtProvider, never()).generateRefreshToken();
-        verify(jwtRedisService, never()).saveRefreshToken(
-                anyLong(),
-                anyString(),
-                anyLong()
-        );
+        verify(jwtProvider, never()).generateAccessToken(any(Member.class), anyString());
+        verify(jwtProvider, never()).generateRefreshToken(anyLong(), anyString());
+        verify(jwtRedisService, never()).createSession(anyLong(), anyString(), anyString(), anyString(), anyLong());
         verify(memberMapper, never()).toResponse(any());
     }
 
@@ -264,16 +478,12 @@ class MemberServiceImplTest {
 
         when(memberRepository.findMemberByEmail(anyString())).thenReturn(Optional.of(saved));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-        when(jwtProvider.generateAccessToken(anyLong())).thenThrow(new RuntimeException());
+        when(jwtProvider.generateAccessToken(any(Member.class), anyString())).thenThrow(new RuntimeException());
 
-        assertThrows(RuntimeException.class, () -> memberService.login(request));
+        assertThrows(RuntimeException.class, () -> memberService.login(request, "test-agent", "1.1.1.1"));
 
-        verify(jwtProvider, never()).generateRefreshToken();
-        verify(jwtRedisService, never()).saveRefreshToken(
-                anyLong(),
-                anyString(),
-                anyLong()
-        );
+        verify(jwtProvider, never()).generateRefreshToken(anyLong(), anyString());
+        verify(jwtRedisService, never()).createSession(anyLong(), anyString(), anyString(), anyString(), anyLong());
         verify(memberMapper, never()).toResponse(any());
     }
 
@@ -294,16 +504,12 @@ class MemberServiceImplTest {
 
         when(memberRepository.findMemberByEmail(anyString())).thenReturn(Optional.of(saved));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-        when(jwtProvider.generateAccessToken(anyLong())).thenReturn("accessToken");
-        when(jwtProvider.generateRefreshToken()).thenThrow(new RuntimeException());
+        when(jwtProvider.generateAccessToken(any(Member.class), anyString())).thenReturn("accessToken");
+        when(jwtProvider.generateRefreshToken(anyLong(), anyString())).thenThrow(new RuntimeException());
 
-        assertThrows(RuntimeException.class, () -> memberService.login(request));
+        assertThrows(RuntimeException.class, () -> memberService.login(request, "test-agent", "1.1.1.1"));
 
-        verify(jwtRedisService, never()).saveRefreshToken(
-                anyLong(),
-                anyString(),
-                anyLong()
-        );
+        verify(jwtRedisService, never()).createSession(anyLong(), anyString(), anyString(), anyString(), anyLong());
         verify(memberMapper, never()).toResponse(any());
     }
 
@@ -324,92 +530,226 @@ class MemberServiceImplTest {
 
         when(memberRepository.findMemberByEmail(anyString())).thenReturn(Optional.of(saved));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-        when(jwtProvider.generateAccessToken(anyLong())).thenReturn("accessToken");
-        when(jwtProvider.generateRefreshToken()).thenReturn("refreshToken");
+        when(jwtProvider.generateAccessToken(any(Member.class), anyString())).thenReturn("accessToken");
+        when(jwtProvider.generateRefreshToken(anyLong(), anyString())).thenReturn("refreshToken");
         doThrow(new RuntimeException())
-                .when(jwtRedisService).saveRefreshToken(anyLong(), anyString(), anyLong());
+                .when(jwtRedisService).createSession(anyLong(), anyString(), anyString(), anyString(), anyLong());
 
-        assertThrows(RuntimeException.class, () -> memberService.login(request));
+        assertThrows(RuntimeException.class, () -> memberService.login(request, "test-agent", "1.1.1.1"));
 
         verify(memberMapper, never()).toResponse(any());
     }
 
+    @Test
+    @DisplayName("토큰 재발급 성공 - refresh 토큰 교체 후 새 토큰 반환")
+    void refresh_success() {
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@test.com")
+                .nickname("nickname")
+                .passwordHash("hash")
+                .build();
+
+        when(jwtProvider.tryVerifyRefreshToken("oldRefreshToken")).thenReturn(Optional.of(refreshToken(1L)));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(jwtProvider.generateRefreshToken(1L, "session-id")).thenReturn("newRefreshToken");
+        when(jwtProvider.generateAccessToken(member, "session-id")).thenReturn("accessToken");
+        when(jwtRedisService.rotateRefreshToken(eq(1L), eq("session-id"), eq("oldRefreshToken"), eq("newRefreshToken"), anyLong()))
+                .thenReturn(JwtRedisService.RefreshRotation.ROTATED);
+
+        AuthResponse response = memberService.refresh(new RefreshTokenRequest("oldRefreshToken"));
+
+        assertEquals("accessToken", response.accessToken());
+        assertEquals("newRefreshToken", response.refreshToken());
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 교체된 refresh 토큰 재사용")
+    void refresh_fail_to_reused_token() {
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@test.com")
+                .nickname("nickname")
+                .passwordHash("hash")
+                .build();
+
+        when(jwtProvider.tryVerifyRefreshToken("oldRefreshToken")).thenReturn(Optional.of(refreshToken(1L)));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(jwtProvider.generateRefreshToken(1L, "session-id")).thenReturn("newRefreshToken");
+        when(jwtRedisService.rotateRefreshToken(anyLong(), anyString(), anyString(), anyString(), anyLong()))
+                .thenReturn(JwtRedisService.RefreshRotation.REUSED);
+
+        assertThrows(InvalidRefreshTokenException.class,
+                () -> memberService.refresh(new RefreshTokenRequest("oldRefreshToken")));
+
+        verify(jwtProvider, never()).generateAccessToken(any(Member.class), anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 저장된 refresh 토큰 없음(로그아웃/만료)")
+    void refresh_fail_to_not_found() {
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@test.com")
+                .nickname("nickname")
+                .passwordHash("hash")
+                .build();
+
+        when(jwtProvider.tryVerifyRefreshToken("oldRefreshToken")).thenReturn(Optional.of(refreshToken(1L)));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(jwtProvider.generateRefreshToken(1L, "session-id")).thenReturn("newRefreshToken");
+        when(jwtRedisService.rotateRefreshToken(anyLong(), anyString(), anyString(), anyString(), anyLong()))
+                .thenReturn(JwtRedisService.RefreshRotation.NOT_FOUND);
+
+        assertThrows(InvalidRefreshTokenException.class,
+                () -> memberService.refresh(new RefreshTokenRequest("oldRefreshToken")));
+
+        verify(jwtProvider, never()).generateAccessToken(any(Member.class), anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 서명이 잘못되었거나 refresh 토큰이 아님")
+    void refresh_fail_to_invalid_token() {
+        when(jwtProvider.tryVerifyRefreshToken(anyString())).thenReturn(Optional.empty());
+
+        assertThrows(InvalidRefreshTokenException.class,
+                () -> memberService.refresh(new RefreshTokenRequest("accessToken")));
+
+        verify(jwtRedisService, never()).rotateRefreshToken(anyLong(), anyString(), anyString(), anyString(), anyLong());
+        verify(memberRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 탈퇴한 회원")
+    void refresh_fail_to_withdrawn_member() {
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@test.com")
+                .nickname("nickname")
+                .passwordHash("hash")
+                .build();
+        member.softDelete();
+
+        when(jwtProvider.tryVerifyRefreshToken("oldRefreshToken")).thenReturn(Optional.of(refreshToken(1L)));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        assertThrows(InvalidRefreshTokenException.class,
+                () -> memberService.refresh(new RefreshTokenRequest("oldRefreshToken")));
+
+        verify(jwtRedisService, never()).rotateRefreshToken(anyLong(), anyString(), anyString(), anyString(), anyLong());
+    }
+
     @Test
     @DisplayName("로그아웃 성공")
     void logout_success() {
-        String accessToken = "accessToken";
-        long memberId = 1L;
+        VerifiedToken accessToken = verifiedToken(1L, 60_000L);
 
-        doNothing().when(jwtRedisService).deleteRefreshToken(anyLong());
-        when(jwtProvider.getRemainingExpiration(anyString())).thenReturn(1L);
-        doNothing().when(jwtRedisService).blacklistAccessToken(anyString(), anyLong());
+        doNothing().when(jwtRedisService).blacklistAccessToken(any(VerifiedToken.class), anyLong());
 
-        assertDoesNotThrow(() -> authTokenService.logout(accessToken, memberId));
-        verify(jwtRedisService, times(1)).deleteRefreshToken(anyLong());
-        verify(jwtProvider, times(1)).getRemainingExpiration(anyString());
-        verify(jwtRedisService, times(1)).blacklistAccessToken(anyString(), anyLong());
+        assertDoesNotThrow(() -> authTokenService.logout(accessToken));
+        verify(jwtRedisService, times(1)).revokeSession(1L, "session-id");
+        verify(jwtRedisService, times(1)).blacklistAccessToken(any(VerifiedToken.class), anyLong());
     }
 
     @Test
     @DisplayName("로그아웃 실패 - RefreshToken 삭제 중 예외 발생")
     void logout_fail_to_throw_exception_when_delete_refresh_token() {
-        String accessToken = "accessToken";
-        long memberId = 1L;
+        VerifiedToken accessToken = verifiedToken(1L, 60_000L);
 
-        doThrow(new RuntimeException()).when(jwtRedisService).deleteRefreshToken(anyLong());
+        doThrow(new RuntimeException()).when(jwtRedisService).revokeSession(anyLong(), anyString());
 
-        assertThrows(RuntimeException.class, () -> authTokenService.logout(accessToken, memberId));
-        verify(jwtRedisService, times(1)).deleteRefreshToken(anyLong());
+        assertThrows(RuntimeException.class, () -> authTokenService.logout(accessToken));
+        verify(jwtRedisService, times(1)).revokeSession(1L, "session-id");
     }
 
     @Test
-    @DisplayName("로그아웃 실패 - 남은 만료 시간 가져오는 중 예외 발생")
-    void logout_fail_to_throw_exception_when_get_remaining_expiration() {
-        String accessToken = "accessToken";
-        long memberId = 1L;
+    @DisplayName("로그아웃 - 이미 만료된 토큰은 블랙리스트에 등록하지 않음")
+    void logout_skip_blacklist_when_token_already_expired() {
+        VerifiedToken accessToken = verifiedToken(1L, -1_000L);
 
-        doNothing().when(jwtRedisService).deleteRefreshToken(anyLong());
-        doThrow(new RuntimeException()).when(jwtProvider).getRemainingExpiration(anyString());
 
-        assertThrows(RuntimeException.class, () -> authTokenService.logout(accessToken, memberId));
-        verify(jwtRedisService, times(1)).deleteRefreshToken(anyLong());
-        verify(jwtProvider, times(1)).getRemainingExpiration(anyString());
+        assertDoesNotThrow(() -> authTokenService.logout(accessToken));
+        verify(jwtRedisService, times(1)).revokeSession(1L, "session-id");
+        verify(jwtRedisService, never()).blacklistAccessToken(any(VerifiedToken.class), anyLong());
     }
 
     @Test
     @DisplayName("로그아웃 실패 - balcklist token으로 로그인 시도")
     void logout_fail_to_throw_exception_when_blacklist_access_token() {
-        String accessToken = "accessToken";
-        long memberId = 1L;
+        VerifiedToken accessToken = verifiedToken(1L, 60_000L);
 
-        doNothing().when(jwtRedisService).deleteRefreshToken(anyLong());
-        when(jwtProvider.getRemainingExpiration(anyString())).thenReturn(1L);
-        doThrow(new RuntimeException()).when(jwtRedisService).blacklistAccessToken(anyString(), anyLong());
+        doThrow(new RuntimeException()).when(jwtRedisService).blacklistAccessToken(any(VerifiedToken.class), anyLong());
 
-        assertThrows(RuntimeException.class, () -> authTokenService.logout(accessToken, memberId));
-        verify(jwtRedisService, times(1)).deleteRefreshToken(anyLong());
-        verify(jwtProvider, times(1)).getRemainingExpiration(anyString());
-        verify(jwtRedisService, times(1)).blacklistAccessToken(anyString(), anyLong());
+        assertThrows(RuntimeException.class, () -> authTokenService.logout(accessToken));
+        verify(jwtRedisService, times(1)).revokeSession(1L, "session-id");
+        verify(jwtRedisService, times(1)).blacklistAccessToken(any(VerifiedToken.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("로그아웃 - sid가 없는 이전 토큰은 모든 세션 종료")
+    void logout_revokes_all_sessions_when_token_has_no_session() {
+        Instant now = Instant.now();
+        VerifiedToken legacy = new VerifiedToken("accessToken", 1L, now, now.plusSeconds(60), "token-id", Role.USER, MemberStatus.ACTIVE, null);
+
+        authTokenService.logout(legacy);
+
+        verify(jwtRedisService).revokeAllSessions(1L);
+        verify(jwtRedisService, never()).revokeSession(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("세션 종료 - 다른 기기 세션은 현재 access 토큰을 블랙리스트에 올리지 않음")
+    void revokeSession_other_device_keeps_current_token() {
+        VerifiedToken accessToken = verifiedToken(1L, 60_000L);
+        when(jwtRedisService.revokeSession(1L, "other-session")).thenReturn(true);
+
+        assertTrue(authTokenService.revokeSession(accessToken, "other-session"));
+
+        verify(jwtRedisService, never()).blacklistAccessToken(any(VerifiedToken.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("세션 종료 - 현재 세션이면 로그아웃과 같음")
+    void revokeSession_current_device_logs_out() {
+        VerifiedToken accessToken = verifiedToken(1L, 60_000L);
+
+        assertTrue(authTokenService.revokeSession(accessToken, "session-id"));
+
+        verify(jwtRedisService).revokeSession(1L, "session-id");
+        verify(jwtRedisService).blacklistAccessToken(eq(accessToken), anyLong());
+    }
+
+    @Test
+    @DisplayName("모든 기기 로그아웃")
+    void logoutAllDevices_success() {
+        VerifiedToken accessToken = verifiedToken(1L, 60_000L);
+
+        authTokenService.logoutAllDevices(accessToken);
+
+        verify(jwtRedisService).revokeAllSessions(1L);
+        verify(jwtRedisService).blacklistAccessToken(eq(accessToken), anyLong());
     }
 
     @Test
     @DisplayName("회원 탈퇴 성공")
     void withdraw_success() {
-        String accessToken = "accessToken";
         long memberId = 1L;
+        VerifiedToken accessToken = verifiedToken(memberId, 60_000L);
 
         Member mockMember = mock(Member.class);
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(mockMember));
 
-        doNothing().when(jwtRedisService).deleteRefreshToken(memberId);
-        when(jwtProvider.getRemainingExpiration(anyString())).thenReturn(1L);
-        doNothing().when(jwtRedisService).blacklistAccessToken(anyString(), anyLong());
+        doNothing().when(jwtRedisService).revokeAllSessions(memberId);
+        doNothing().when(jwtRedisService).blacklistAccessToken(any(VerifiedToken.class), anyLong());
 
-        assertDoesNotThrow(() -> memberService.withdraw(accessToken, memberId));
+        assertDoesNotThrow(() -> memberService.withdraw(accessToken));
 
-        verify(jwtRedisService).deleteRefreshToken(memberId);
+        verify(jwtRedisService).revokeAllSessions(memberId);
         verify(jwtRedisService).blacklistAccessToken(eq(accessToken), anyLong());
         verify(mockMember).softDelete();
+        verify(memberDetailsCache).evict(memberId);
+        verify(memberChangeSync).memberChanged(mockMember);
     }
 
     @Test
@@ -417,7 +757,7 @@ class MemberServiceImplTest {
     void withdraw_fail_member_not_found() {
         when(memberRepository.findById(anyLong())).thenReturn(Optional.empty());
         assertThrows(MemberNotFoundException.class,
-                () -> memberService.withdraw("accessToken", 99L));
+                () -> memberService.withdraw(verifiedToken(99L, 60_000L)));
     }
 
     @Test
@@ -438,7 +778,7 @@ class MemberServiceImplTest {
                 .build();
 
         when(memberRepository.findById(anyLong())).thenReturn(Optional.of(member));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true).thenReturn(false);
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedNewPassword");
         when(memberMapper.toResponse(any())).thenReturn(new MemberResponse(
                 1L,
@@ -510,7 +850,7 @@ class MemberServiceImplTest {
                 .build());
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true).thenReturn(false);
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
 
         memberService.changePassword(memberId, request);
 
@@ -533,10 +873,11 @@ class MemberServiceImplTest {
                 .build());
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true).thenReturn(true);
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
 
         assertThrows(SamePasswordException.class, () -> memberService.changePassword(memberId, request));
 
+        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
         verify(member, never()).changePassword(anyString());
     }
 
@@ -564,6 +905,8 @@ class MemberServiceImplTest {
         assertNotNull(response);
         assertEquals("newNickname", response.nickname());
         verify(member).updateNickname("newNickname");
+        verify(memberDetailsCache).evict(memberId);
+        verify(memberChangeSync).memberChanged(member);
     }
 
     @Test
@@ -629,4 +972,14 @@ class MemberServiceImplTest {
 
         verify(memberMapper, never()).toResponse(any());
     }
-}
\ No newline at end of file
+
+    private VerifiedToken refreshToken(Long memberId) {
+        Instant now = Instant.now();
+        return new VerifiedToken("oldRefreshToken", memberId, now, now.plusSeconds(60), "refresh-id", null, null, "session-id");
+    }
+
+    private VerifiedToken verifiedToken(Long memberId, long remainingMillis) {
+        Instant now = Instant.now();
+        return new VerifiedToken("accessToken", memberId, now, now.plusMillis(remainingMillis), "token-id", Role.USER, MemberStatus.ACTIVE, "session-id");
+    }
+}
@@ -71,7 +71,7 @@ class EmailControllerRestDocsTest {
     void sendVerificationCode_tooManyRequests_generateDocs() throws Exception {
         EmailSendRequest request = new EmailSendRequest("spam@test.com");
 
-        doThrow(new TooManyEmailRequestsException()).when(emailService).sendVerificationCode(anyString());
+        doThrow(TooManyEmailRequestsException.INSTANCE).when(emailService).sendVerificationCode(anyString());
 
         mockMvc.perform(post("/api/email/send")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -174,7 +174,7 @@ class EmailControllerRestDocsTest {
     void verifyCode_invalid_generateDocs() throws Exception {
         VerifyEmailRequest request = new VerifyEmailRequest("test@test.com", "999999");
 
-        doThrow(new InvalidVerificationCodeException()).when(emailService).verifyCode(request.email(), request.code());
+        doThrow(InvalidVerificationCodeException.INSTANCE).when(emailService).verifyCode(request.email(), request.code());
 
         mockMvc.perform(post("/api/email/verify")
                         .contentType(MediaType.APPLICATION_JSON)
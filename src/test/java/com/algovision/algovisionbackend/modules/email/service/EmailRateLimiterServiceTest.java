@@ -1,44 +1,55 @@
 package com.algovision.algovisionbackend.modules.email.service;
 
+import com.algovision.algovisionbackend.global.ratelimit.RateLimiter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class EmailRateLimiterServiceTest {
 
     @Mock
-    private StringRedisTemplate redisTemplate;
-    @Mock
-    private ValueOperations<String, String> valueOperations;
+    private RateLimiter rateLimiter;
     @InjectMocks
     private EmailRateLimiterService emailRateLimiterService;
 
     @Test
-    void canSend_hasNotKey() {
+    void canSend_allowed() {
         String email = "test@test.com";
-        when(redisTemplate.hasKey(anyString())).thenReturn(Boolean.FALSE);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        doNothing().when(valueOperations).set(anyString(), anyString(), anyLong(), any());
+        when(rateLimiter.tryAcquire("email-send", email)).thenReturn(true);
 
         assertTrue(emailRateLimiterService.canSend(email));
     }
 
     @Test
-    void canSend_hasKey() {
+    void canSend_limited() {
         String email = "test@test.com";
-        when(redisTemplate.hasKey(anyString())).thenReturn(Boolean.TRUE);
+        when(rateLimiter.tryAcquire("email-send", email)).thenReturn(false);
 
         assertFalse(emailRateLimiterService.canSend(email));
     }
+
+    @Test
+    void refundSend() {
+        String email = "test@test.com";
+
+        emailRateLimiterService.refundSend(email);
+
+        verify(rateLimiter).refund("email-send", email);
+    }
+
+    @Test
+    void canVerify_limited() {
+        String email = "test@test.com";
+        when(rateLimiter.tryAcquire("email-verify", email)).thenReturn(false);
+
+        assertFalse(emailRateLimiterService.canVerify(email));
+    }
 }
@@ -1,20 +1,25 @@
 package com.algovision.algovisionbackend.modules.email.service;
 
 import com.algovision.algovisionbackend.modules.email.exception.InvalidVerificationCodeException;
-import com.algovision.algovisionbackend.modules.email.exception.MailSendFailedException;
+import com.algovision.algovisionbackend.modules.email.exception.MailQueueFullException;
 import com.algovision.algovisionbackend.modules.email.exception.TooManyEmailRequestsException;
+import com.algovision.algovisionbackend.modules.email.exception.TooManyVerificationAttemptsException;
+import com.algovision.algovisionbackend.modules.email.template.MailTemplate;
+import com.algovision.algovisionbackend.modules.email.template.MailTemplateEngine;
 import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.mail.MailSendException;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
 
 import java.util.concurrent.TimeUnit;
 
@@ -25,7 +30,7 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class EmailServiceTest {
     @Mock
-    private JavaMailSender mailSender;
+    private MailDispatcher mailDispatcher;
     @Mock
     private StringRedisTemplate redisTemplate;
     @Mock
@@ -34,26 +39,33 @@ class EmailServiceTest {
     private ValueOperations<String, String> valueOperations;
     @Mock
     private MimeMessage mimeMessage;
+    @Spy
+    private MailTemplateEngine templateEngine = new MailTemplateEngine();
     @InjectMocks
     private EmailService emailService;
 
     @BeforeEach
     void setUp() {
+        templateEngine.init();
         lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        lenient().when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
+        lenient().when(rateLimiterService.canVerify(anyString())).thenReturn(true);
     }
 
     @Test
-    @DisplayName("이메일 인증 코드 전송 성공, 메일과 코드가 저장")
-    void sendVerificationCode_success() {
+    @DisplayName("이메일 인증 코드 전송 성공, 코드 저장 후 메일 발송 요청")
+    void sendVerificationCode_success() throws Exception {
         String email = "test@test.com";
         when(rateLimiterService.canSend(email)).thenReturn(true);
 
         emailService.sendVerificationCode(email);
 
-        verify(rateLimiterService).canSend(email);
-        verify(mailSender).send(any(MimeMessage.class));
-        verify(valueOperations).set(startsWith("email:"), anyString(), eq(3L), eq(TimeUnit.MINUTES));
+        InOrder inOrder = inOrder(valueOperations, mailDispatcher);
+        inOrder.verify(valueOperations).setGet(eq("email:" + email), anyString(), eq(3L), eq(TimeUnit.MINUTES));
+        ArgumentCaptor<MimeMessagePreparator> preparator = ArgumentCaptor.forClass(MimeMessagePreparator.class);
+        inOrder.verify(mailDispatcher).dispatch(eq(email), preparator.capture());
+
+        assertDoesNotThrow(() -> preparator.getValue().prepare(mimeMessage));
+        verify(templateEngine).render(eq(MailTemplate.VERIFICATION), any(), anyMap());
     }
 
 
@@ -65,8 +77,8 @@ class EmailServiceTest {
 
         assertThrows(TooManyEmailRequestsException.class, () -> emailService.sendVerificationCode(email));
 
-        verify(mailSender, never()).send(any(MimeMessage.class));
-        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any());
+        verify(mailDispatcher, never()).dispatch(anyString(), any());
+        verify(valueOperations, never()).setGet(anyString(), anyString(), anyLong(), any());
     }
 
     @Test
@@ -79,6 +91,17 @@ class EmailServiceTest {
         assertDoesNotThrow(() -> emailService.verifyCode(email, "123456"));
     }
 
+    @Test
+    @DisplayName("인증 시도 제한 초과 시 코드를 조회하지 않고 TooManyVerificationAttemptsException 발생")
+    void verifyCode_tooManyAttempts() {
+        String email = "test@test.com";
+        when(rateLimiterService.canVerify(email)).thenReturn(false);
+
+        assertThrows(TooManyVerificationAttemptsException.class, () -> emailService.verifyCode(email, "123456"));
+
+        verify(valueOperations, never()).get(anyString());
+    }
+
     @Test
     @DisplayName("저장된 인증 코드와 불일치할 경우 검증 실패")
     void verifyCode_invalid() {
@@ -126,12 +149,32 @@ class EmailServiceTest {
     }
 
     @Test
-    @DisplayName("메일 전송 실패 시 MailSendFailedException 발생")
-    void sendMail_fails_throwsException() {
+    @DisplayName("발송 대기열이 가득 차면 저장한 코드를 지우고 발송 횟수를 되돌린 뒤 MailQueueFullException 발생")
+    void sendVerificationCode_queueFull_throwsException() {
         String email = "fail@test.com";
         when(rateLimiterService.canSend(email)).thenReturn(true);
-        doThrow(MailSendException.class).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new MailQueueFullException()).when(mailDispatcher).dispatch(eq(email), any());
+
+        assertThrows(MailQueueFullException.class, () -> emailService.sendVerificationCode(email));
+
+        verify(redisTemplate).delete("email:" + email);
+        verify(rateLimiterService).refundSend(email);
+        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("발송 대기열이 가득 차면 이전에 보낸 코드를 되돌림")
+    void sendVerificationCode_queueFull_restoresPreviousCode() {
+        String email = "fail@test.com";
+        when(rateLimiterService.canSend(email)).thenReturn(true);
+        when(valueOperations.setGet(eq("email:" + email), anyString(), eq(3L), eq(TimeUnit.MINUTES)))
+                .thenReturn("111111");
+        doThrow(new MailQueueFullException()).when(mailDispatcher).dispatch(eq(email), any());
+
+        assertThrows(MailQueueFullException.class, () -> emailService.sendVerificationCode(email));
 
-        assertThrows(MailSendFailedException.class, () -> emailService.sendVerificationCode(email));
+        verify(valueOperations).set("email:" + email, "111111", 3L, TimeUnit.MINUTES);
+        verify(redisTemplate, never()).delete(anyString());
+        verify(rateLimiterService).refundSend(email);
     }
 }
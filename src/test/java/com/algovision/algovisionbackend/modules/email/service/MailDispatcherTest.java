@@ -0,0 +1,119 @@
+package com.algovision.algovisionbackend.modules.email.service;
+
+import com.algovision.algovisionbackend.modules.email.config.MailDispatchProperties;
+import com.algovision.algovisionbackend.modules.email.exception.MailQueueFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailDispatcherTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    private final MimeMessagePreparator preparator = message -> { };
+    private SimpleMeterRegistry meterRegistry;
+    private MailDispatchProperties properties;
+    private MailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new MailDispatchProperties();
+        properties.setWorkers(1);
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setShutdownTimeout(Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("대기열에 넣은 메일을 워커가 발송")
+    void dispatch_shouldSendAsynchronously() {
+        dispatcher = start();
+
+        dispatcher.dispatch("test@test.com", preparator);
+
+        verify(mailSender, timeout(1000)).send(preparator);
+    }
+
+    @Test
+    @DisplayName("발송 실패 시 재시도")
+    void dispatch_shouldRetryOnFailure() {
+        doThrow(new MailSendException("temporary")).doNothing().when(mailSender).send(preparator);
+        dispatcher = start();
+
+        dispatcher.dispatch("test@test.com", preparator);
+
+        verify(mailSender, timeout(1000).times(2)).send(preparator);
+        assertThat(meterRegistry.counter("mail.dispatch.retried").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최대 횟수까지 실패하면 더 이상 재시도하지 않음")
+    void dispatch_shouldGiveUpAfterMaxAttempts() {
+        doThrow(new MailSendException("down")).when(mailSender).send(preparator);
+        dispatcher = start();
+
+        dispatcher.dispatch("test@test.com", preparator);
+
+        verify(mailSender, timeout(1000).times(3)).send(preparator);
+        verify(mailSender, after(50).times(3)).send(preparator);
+    }
+
+    @Test
+    @DisplayName("예기치 않은 예외가 발생해도 워커는 다음 메일을 계속 발송")
+    void dispatch_shouldKeepWorkerAliveOnUnexpectedException() {
+        MimeMessagePreparator broken = message -> { };
+        doThrow(new IllegalStateException("broken")).when(mailSender).send(broken);
+        dispatcher = start();
+
+        dispatcher.dispatch("broken@test.com", broken);
+        dispatcher.dispatch("test@test.com", preparator);
+
+        verify(mailSender, timeout(1000)).send(preparator);
+        verify(mailSender, times(1)).send(broken);
+        assertThat(meterRegistry.counter("mail.dispatch.errors").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 MailQueueFullException 발생")
+    void dispatch_shouldRejectWhenQueueFull() {
+        properties.setWorkers(0);
+        properties.setQueueCapacity(1);
+        dispatcher = start();
+
+        dispatcher.dispatch("first@test.com", preparator);
+
+        assertThrows(MailQueueFullException.class, () -> dispatcher.dispatch("second@test.com", preparator));
+        assertThat(meterRegistry.counter("mail.dispatch.rejected").count()).isEqualTo(1.0);
+        assertThat(dispatcher.queueSize()).isEqualTo(1);
+    }
+
+    private MailDispatcher start() {
+        MailDispatcher started = new MailDispatcher(mailSender, properties, meterRegistry);
+        started.start();
+        return started;
+    }
+}
@@ -0,0 +1,71 @@
+package com.algovision.algovisionbackend.modules.email.template;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailTemplateEngineTest {
+
+    private MailTemplateEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new MailTemplateEngine();
+        engine.init();
+    }
+
+    @Test
+    @DisplayName("인증 메일 템플릿에 코드와 유효 시간을 채움")
+    void render_verification() {
+        RenderedMail mail = engine.render(MailTemplate.VERIFICATION, Locale.KOREAN,
+                Map.of("code", "123456", "expiresMinutes", 3));
+
+        assertThat(mail.subject()).isEqualTo("[Algovision] 이메일 인증 안내");
+        assertThat(mail.html()).contains("123456").contains("3분간").doesNotContain("{{");
+    }
+
+    @Test
+    @DisplayName("요청 언어의 템플릿을 사용하고, 없으면 기본 언어로 대체")
+    void render_shouldResolveLocale() {
+        Map<String, Object> values = Map.of("code", "123456", "expiresMinutes", 3);
+
+        assertThat(engine.render(MailTemplate.VERIFICATION, Locale.US, values).subject())
+                .isEqualTo("[Algovision] Verify your email");
+        assertThat(engine.render(MailTemplate.VERIFICATION, Locale.JAPANESE, values).subject())
+                .isEqualTo("[Algovision] 이메일 인증 안내");
+    }
+
+    @Test
+    @DisplayName("본문 변수는 HTML 이스케이프, 제목 변수는 그대로")
+    void render_shouldEscapeHtmlVariables() {
+        RenderedMail mail = engine.render(MailTemplate.NOTICE, Locale.KOREAN,
+                Map.of("title", "점검 <안내>", "body", "<script>alert('x')</script> & more"));
+
+        assertThat(mail.subject()).isEqualTo("[Algovision] 점검 <안내>");
+        assertThat(mail.html())
+                .contains("점검 &lt;안내&gt;")
+                .contains("&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; more")
+                .doesNotContain("<script>");
+    }
+
+    @Test
+    @DisplayName("변수 값이 없으면 예외")
+    void render_shouldFailOnMissingVariable() {
+        assertThatThrownBy(() -> engine.render(MailTemplate.VERIFICATION, Locale.KOREAN, Map.of("code", "123456")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("자리표시자 사이의 고정 조각은 그대로 유지")
+    void compile_shouldKeepLiterals() {
+        CompiledTemplate template = CompiledTemplate.compile("a{{ x }}b{{y}}", true);
+
+        assertThat(template.render(Map.of("x", 1, "y", "<"))).isEqualTo("a1b&lt;");
+    }
+}
@@ -0,0 +1,113 @@
+package com.algovision.algovisionbackend.modules.email.transport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledJavaMailSenderTest {
+
+    private FakeSmtpServer server;
+    private PooledJavaMailSender sender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new FakeSmtpServer();
+        sender = newSender(2, 100);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        sender.destroy();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("연속 발송은 하나의 SMTP 연결을 재사용")
+    void send_shouldReuseConnection() {
+        for (int i = 0; i < 5; i++) {
+            sender.send(message(i));
+        }
+
+        assertThat(server.messageCount()).isEqualTo(5);
+        assertThat(server.connectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서버가 끊은 연결은 새 연결로 재발송")
+    void send_shouldReconnectWhenStale() throws Exception {
+        sender.send(message(0));
+        server.dropConnections();
+        Thread.sleep(50);
+
+        sender.send(message(1));
+
+        assertThat(server.messageCount()).isEqualTo(2);
+        assertThat(server.connectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("연결당 최대 메시지 수를 넘으면 새 연결 사용")
+    void send_shouldRotateAfterMaxMessages() {
+        sender.destroy();
+        sender = newSender(2, 2);
+
+        for (int i = 0; i < 3; i++) {
+            sender.send(message(i));
+        }
+
+        assertThat(server.messageCount()).isEqualTo(3);
+        assertThat(server.connectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시 발송은 최대 연결 수를 넘지 않음")
+    void send_shouldNotExceedMaxConnections() {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                int index = i;
+                futures.add(CompletableFuture.runAsync(() -> sender.send(message(index)), executor));
+            }
+            futures.forEach(CompletableFuture::join);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(server.messageCount()).isEqualTo(40);
+        assertThat(server.connectionCount()).isLessThanOrEqualTo(2);
+    }
+
+    private PooledJavaMailSender newSender(int maxConnections, int maxMessagesPerConnection) {
+        PooledJavaMailSender pooled = new PooledJavaMailSender(
+                maxConnections,
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(1),
+                maxMessagesPerConnection,
+                Duration.ofSeconds(5)
+        );
+        pooled.setHost(server.getHost());
+        pooled.setPort(server.getPort());
+        return pooled;
+    }
+
+    private SimpleMailMessage message(int index) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@algovision.com");
+        message.setTo("user" + index + "@test.com");
+        message.setSubject("subject " + index);
+        message.setText("body " + index);
+        return message;
+    }
+}